@@ -2,7 +2,6 @@ package com.vokabelnetz;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main application class for Vokabelnetz.
@@ -11,7 +10,6 @@ import org.springframework.scheduling.annotation.EnableScheduling;
  * SM-2 spaced repetition with Elo rating system for adaptive learning.
  */
 @SpringBootApplication
-@EnableScheduling
 public class VokabelnetzApplication {
 
     public static void main(String[] args) {
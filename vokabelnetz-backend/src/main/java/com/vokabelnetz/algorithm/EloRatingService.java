@@ -3,7 +3,9 @@ package com.vokabelnetz.algorithm;
 import com.vokabelnetz.config.AppProperties;
 import com.vokabelnetz.entity.User;
 import com.vokabelnetz.entity.Word;
-import lombok.RequiredArgsConstructor;
+import com.vokabelnetz.monitoring.WordSelectedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,12 +19,20 @@ import java.util.Random;
  * Based on ALGORITHMS.md documentation.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class EloRatingService {
 
     private final AppProperties appProperties;
     private final Random random = new Random();
+    private final Timer selectionTimer;
+
+    public EloRatingService(AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.appProperties = appProperties;
+        this.selectionTimer = Timer.builder("vokabelnetz.learning")
+            .description("Time spent in the learning hot paths (inside the transaction)")
+            .tag("operation", "elo-selection")
+            .register(meterRegistry);
+    }
 
     /**
      * Calculate expected probability of correct answer.
@@ -76,6 +86,21 @@ public class EloRatingService {
             return null;
         }
 
+        WordSelectedEvent event = new WordSelectedEvent();
+        event.begin();
+        Word selected = selectionTimer.record(() -> matchWord(user, availableWords, event));
+        event.end();
+        if (event.shouldCommit()) {
+            event.userId = user.getId();
+            event.userRating = user.getEloRating();
+            event.candidateCount = availableWords.size();
+            event.selectedWordId = selected != null ? selected.getId() : 0;
+            event.commit();
+        }
+        return selected;
+    }
+
+    private Word matchWord(User user, List<Word> availableWords, WordSelectedEvent event) {
         var config = appProperties.getAlgorithm();
         int userRating = user.getEloRating();
         int tolerance = config.getMatchTolerance();
@@ -84,6 +109,7 @@ public class EloRatingService {
         List<Word> matchedWords = availableWords.stream()
             .filter(w -> Math.abs(w.getDifficultyRating() - userRating) <= tolerance)
             .toList();
+        event.windowSize = matchedWords.size();
 
         if (matchedWords.isEmpty()) {
             // Fall back to closest word if no matches
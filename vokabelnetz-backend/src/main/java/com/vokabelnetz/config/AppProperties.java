@@ -5,6 +5,11 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Application-specific configuration properties.
  * All configurable values from application.yml are centralized here.
@@ -19,6 +24,13 @@ public class AppProperties {
     private final Algorithm algorithm = new Algorithm();
     private final Streak streak = new Streak();
     private final Security security = new Security();
+    private final Cache cache = new Cache();
+    private final Media media = new Media();
+    private final Catalog catalog = new Catalog();
+    private final RateLimit rateLimit = new RateLimit();
+    private final Batch batch = new Batch();
+    private final Retention retention = new Retention();
+    private final Monitoring monitoring = new Monitoring();
 
     @Getter
     @Setter
@@ -51,6 +63,8 @@ public class AppProperties {
         private int freezeMilestoneDays = 7;
         private int maxFreezes = 3;
         private String defaultTimezone = "Europe/Istanbul";
+        // Local time (HH:mm) of streak reminders for users who have not set one
+        private String defaultReminderTime = "20:00";
     }
 
     @Getter
@@ -61,5 +75,120 @@ public class AppProperties {
         private int lockoutMinutes = 15;
         private int passwordResetExpirationHours = 1;
         private int maxPasswordResetRequestsPerHour = 3;
+
+        // Login attempt store: memory (single instance) or postgres (cluster-wide)
+        private String loginAttemptStore = "memory";
+        // In-memory index cap (weighted by tracked IPs) and IPs kept per email
+        private long loginAttemptMaxEntries = 100000;
+        private int loginAttemptMaxIpsPerEmail = 64;
+        // How long the postgres store caches "not locked" locally
+        private int loginAttemptNearCacheSeconds = 5;
+
+        // Per-user security state cache used by JWT authentication
+        private int securityStateCacheSize = 10000;
+        private int securityStateCacheSeconds = 60;
+
+        // Per-user active session cache used for rotation and session limits
+        private int sessionRegistrySize = 10000;
+        private int sessionRegistryMinutes = 10;
+        // Bloom filter sizing for the access-token denylist (users revoked per token lifetime)
+        private long tokenDenylistFilterSize = 10000;
+
+        // Password hashing pool: 0 threads = derive from CPUs and the heap share below
+        private int passwordHashThreads = 0;
+        private int passwordHashMemoryPercent = 10;
+        private int passwordHashQueueCapacity = 200;
+        private long passwordHashTimeoutMs = 5000;
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+        // Hibernate second-level cache regions (local per instance, so TTL bounds staleness across replicas)
+        private long wordMaxEntries = 20000;
+        private int wordTtlMinutes = 60;
+        private long preferencesMaxEntries = 10000;
+        private int preferencesTtlMinutes = 10;
+        private long queryMaxEntries = 1000;
+        private int queryTtlMinutes = 10;
+    }
+
+    @Getter
+    @Setter
+    public static class Media {
+        // Root of the local content-addressed media store
+        private String path = "./media";
+    }
+
+    @Getter
+    @Setter
+    public static class Catalog {
+        // Larger deltas (and since=0) are answered with fullResync; clients then page through /words
+        private int maxDeltaWords = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class RateLimit {
+        private boolean enabled = true;
+        private int maxBuckets = 100000;
+        private int bucketIdleMinutes = 10;
+        // Route group name -> limit; the first group whose paths match applies
+        private Map<String, Route> routes = new LinkedHashMap<>();
+
+        @Getter
+        @Setter
+        public static class Route {
+            private List<String> paths = new ArrayList<>();
+            private int capacity = 60;
+            private int refillPerMinute = 60;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Batch {
+        // Users per chunk (one transaction each) in user-wide scheduled jobs
+        private int chunkSize = 500;
+        // Chunks processed concurrently, i.e. pool connections a job may hold
+        private int dbConcurrency = 4;
+        // User shards (id % shards); instances claim free shards, so jobs scale out across replicas
+        private int shards = 1;
+        // Wait between checks of shards that another instance is working on
+        private int lockRetrySeconds = 15;
+        // How often runs cut short by a dying instance are looked for and resumed
+        private int resumeCheckMinutes = 10;
+    }
+
+    @Getter
+    @Setter
+    public static class Retention {
+        // Rows per DELETE; adapted between min and max to keep each batch near the target time
+        private int batchSize = 1000;
+        private int minBatchSize = 100;
+        private int maxBatchSize = 10000;
+        private long batchTargetMillis = 200;
+        // Sleep between batches so replication and other writers keep up
+        private long pauseMillis = 50;
+        // A job stops after this and continues on its next run
+        private int maxRunMinutes = 15;
+        // Expired users purged together (children first, then the user rows)
+        private int userBatchSize = 50;
+    }
+
+    @Getter
+    @Setter
+    public static class Monitoring {
+        // Adds X-SQL-Statements and X-SQL-Time-Ms to responses (dev only)
+        private boolean sqlResponseHeaders = false;
+        // Requests executing more statements than this are logged as warnings
+        private int sqlStatementWarnThreshold = 30;
+        // The same SQL executed this often in one request is logged as a likely N+1
+        private int sqlRepeatWarnThreshold = 5;
+        // Start a JFR recording at startup that the jfr endpoint can dump at any time
+        private boolean jfrContinuous = false;
+        // Upper bounds for every recording; older or excess data is discarded
+        private int jfrMaxAgeMinutes = 30;
+        private int jfrMaxSizeMb = 100;
     }
 }
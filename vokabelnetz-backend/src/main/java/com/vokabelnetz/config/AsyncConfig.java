@@ -1,32 +1,90 @@
 package com.vokabelnetz.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Async configuration for background tasks like email sending.
+ * Async configuration for background tasks like security alerts and password hashing.
+ * Emails do not go through here; they are queued in the outbox (EmailOutboxWorker).
  */
 @Configuration
 @EnableAsync
 @Slf4j
 public class AsyncConfig {
 
+    // Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8() memory cost
+    private static final long ARGON2_MEMORY_BYTES = 16L * 1024 * 1024;
+
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
+    public Executor taskExecutor(MeterRegistry meterRegistry) {
+        Counter rejected = rejectedCounter(meterRegistry, "taskExecutor");
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2);
         executor.setMaxPoolSize(5);
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("Async-");
-        executor.setRejectedExecutionHandler((r, e) ->
-            log.warn("Task rejected, thread pool is full and queue is full")
-        );
+        executor.setRejectedExecutionHandler((r, e) -> {
+            rejected.increment();
+            log.warn("Task rejected, thread pool is full and queue is full");
+        });
         executor.initialize();
         return executor;
     }
+
+    /**
+     * Dedicated pool for Argon2 password hashing.
+     * Each hash needs ~16 MB, so concurrency is capped by CPUs and by a share of the heap.
+     * Callers get a RejectedExecutionException once the queue is full.
+     */
+    @Bean(name = "passwordHashExecutor", destroyMethod = "shutdown")
+    public ExecutorService passwordHashExecutor(AppProperties appProperties, MeterRegistry meterRegistry) {
+        var config = appProperties.getSecurity();
+        int threads = config.getPasswordHashThreads();
+        if (threads <= 0) {
+            long hashingMemory = Runtime.getRuntime().maxMemory() * config.getPasswordHashMemoryPercent() / 100;
+            int byMemory = (int) (hashingMemory / ARGON2_MEMORY_BYTES);
+            threads = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), byMemory));
+        }
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            threads, threads,
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(config.getPasswordHashQueueCapacity()),
+            new CustomizableThreadFactory("PasswordHash-"),
+            countingAbortPolicy(rejectedCounter(meterRegistry, "passwordHash"))
+        );
+        log.info("Password hashing pool: {} threads, queue capacity {}",
+            threads, config.getPasswordHashQueueCapacity());
+
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, "passwordHash");
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String executor) {
+        return Counter.builder("vokabelnetz.async.rejected")
+            .description("Tasks rejected because the executor's pool and queue were full")
+            .tag("executor", executor)
+            .register(meterRegistry);
+    }
+
+    private static RejectedExecutionHandler countingAbortPolicy(Counter rejected) {
+        RejectedExecutionHandler abort = new ThreadPoolExecutor.AbortPolicy();
+        return (task, executor) -> {
+            rejected.increment();
+            abort.rejectedExecution(task, executor);
+        };
+    }
 }
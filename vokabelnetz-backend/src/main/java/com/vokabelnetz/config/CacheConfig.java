@@ -0,0 +1,88 @@
+package com.vokabelnetz.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.vokabelnetz.entity.UserPreferences;
+import com.vokabelnetz.entity.Word;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate second-level cache configuration (JCache backed by Caffeine).
+ *
+ * Regions are created here with explicit size and TTL limits instead of
+ * relying on Hibernate's create-on-demand defaults. The cache is local to
+ * each instance; the TTLs bound how long another replica's write stays invisible.
+ * Hit and miss counts per region are published as {@code cache.gets}.
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class CacheConfig {
+
+    public static final String WORD_REGION = Word.class.getName();
+    public static final String PREFERENCES_REGION = UserPreferences.class.getName();
+    public static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    private final AppProperties appProperties;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(MeterRegistry meterRegistry) {
+        AppProperties.Cache cache = appProperties.getCache();
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // One manager per context: the provider's default manager is shared by the JVM and
+        // would be closed by whichever context shuts down first (tests run several contexts)
+        URI uri = URI.create("vokabelnetz:l2-" + Integer.toHexString(System.identityHashCode(this)));
+        CacheManager cacheManager = provider.getCacheManager(uri, getClass().getClassLoader());
+
+        createRegion(cacheManager, WORD_REGION, cache.getWordMaxEntries(), cache.getWordTtlMinutes());
+        createRegion(cacheManager, PREFERENCES_REGION, cache.getPreferencesMaxEntries(), cache.getPreferencesTtlMinutes());
+        createRegion(cacheManager, QUERY_RESULTS_REGION, cache.getQueryMaxEntries(), cache.getQueryTtlMinutes());
+        // Timestamps must outlive cached query results, so no size or TTL limit here
+        createRegion(cacheManager, UPDATE_TIMESTAMPS_REGION, 0, 0);
+
+        for (String name : cacheManager.getCacheNames()) {
+            JCacheMetrics.monitor(meterRegistry, cacheManager.getCache(name));
+        }
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private void createRegion(CacheManager cacheManager, String name, long maxEntries, int ttlMinutes) {
+        if (cacheManager.getCache(name) != null) {
+            return;
+        }
+
+        CaffeineConfiguration<Object, Object> config = new CaffeineConfiguration<>();
+        config.setStatisticsEnabled(true);
+        if (maxEntries > 0) {
+            config.setMaximumSize(OptionalLong.of(maxEntries));
+        }
+        if (ttlMinutes > 0) {
+            config.setExpireAfterWrite(OptionalLong.of(Duration.ofMinutes(ttlMinutes).toNanos()));
+        }
+        cacheManager.createCache(name, config);
+
+        log.info("L2 cache region {} (max {}, ttl {} min)", name,
+            maxEntries > 0 ? maxEntries : "unbounded", ttlMinutes > 0 ? ttlMinutes : "none");
+    }
+}
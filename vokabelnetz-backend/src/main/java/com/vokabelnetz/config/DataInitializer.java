@@ -1,13 +1,14 @@
 package com.vokabelnetz.config;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vokabelnetz.entity.SeedManifest;
 import com.vokabelnetz.entity.Word;
 import com.vokabelnetz.entity.enums.CefrLevel;
-import com.vokabelnetz.entity.enums.WordCategory;
-import com.vokabelnetz.entity.enums.WordType;
+import com.vokabelnetz.entity.enums.WordChangeType;
+import com.vokabelnetz.repository.SeedManifestRepository;
+import com.vokabelnetz.repository.WordBulkRepository;
 import com.vokabelnetz.repository.WordRepository;
+import com.vokabelnetz.service.CatalogVersionService;
+import com.vokabelnetz.service.SecondLevelCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
@@ -17,11 +18,20 @@ import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 /**
  * Initializes the database with word data from JSON files.
@@ -31,6 +41,10 @@ import java.util.Map;
  * - UPDATE: Add new words, update existing ones (by german + cefrLevel)
  * - VALIDATE: Just validate files, no database changes
  * - NONE: Skip data initialization
+ *
+ * Files are parsed in parallel with a streaming reader and written with one
+ * bulk upsert per chunk (see {@link WordBulkRepository}). A SHA-256 per file is
+ * kept in seed_manifest; UPDATE and VALIDATE skip files whose hash is unchanged.
  */
 @Component
 @RequiredArgsConstructor
@@ -38,8 +52,12 @@ import java.util.Map;
 public class DataInitializer implements ApplicationRunner {
 
     private final WordRepository wordRepository;
+    private final WordBulkRepository wordBulkRepository;
+    private final WordDataReader wordDataReader;
+    private final SeedManifestRepository seedManifestRepository;
     private final AppProperties appProperties;
-    private final ObjectMapper objectMapper;
+    private final CatalogVersionService catalogVersionService;
+    private final SecondLevelCacheService cacheService;
 
     @Override
     @Transactional
@@ -58,8 +76,11 @@ public class DataInitializer implements ApplicationRunner {
 
     /**
      * INIT mode: Only seed if database is empty.
+     * The manifest is ignored here since an empty table means nothing was applied.
      */
     private void initMode() {
+        seedManifestRepository.lockSeeding();
+
         long existingCount = wordRepository.count();
         if (existingCount > 0) {
             log.info("Database already contains {} words. Skipping INIT mode.", existingCount);
@@ -67,56 +88,50 @@ public class DataInitializer implements ApplicationRunner {
         }
 
         log.info("Database is empty. Starting initial data seeding...");
-        List<Word> words = loadAllWords();
-        if (!words.isEmpty()) {
-            wordRepository.saveAll(words);
-            log.info("Successfully seeded {} words into the database.", words.size());
+        List<SeedFile> files = loadAllFiles(Map.of());
+        WriteTotals totals = writeFiles(files);
+
+        if (totals.inserted() > 0) {
+            log.info("Successfully seeded {} words into the database (catalog version {}).",
+                totals.inserted(), totals.catalogVersion());
         }
     }
 
     /**
      * UPDATE mode: Add new words, update existing ones.
+     * Only files that are new or changed since the last run are parsed and written.
      */
     private void updateMode() {
         log.info("Starting UPDATE mode...");
-        List<Word> wordsFromFiles = loadAllWords();
+        // Replicas starting together wait here and then see the first one's manifest
+        seedManifestRepository.lockSeeding();
 
-        int added = 0;
-        int updated = 0;
-        int skipped = 0;
-
-        for (Word newWord : wordsFromFiles) {
-            Word existing = wordRepository.findByGermanAndCefrLevel(newWord.getGerman(), newWord.getCefrLevel());
-
-            if (existing == null) {
-                wordRepository.save(newWord);
-                added++;
-            } else {
-                // Update existing word with new data
-                updateWordFields(existing, newWord);
-                wordRepository.save(existing);
-                updated++;
-            }
+        List<SeedFile> files = loadAllFiles(loadManifestHashes());
+        if (files.isEmpty()) {
+            log.info("UPDATE mode completed: all seed files unchanged");
+            return;
         }
 
-        log.info("UPDATE mode completed: {} added, {} updated, {} skipped", added, updated, skipped);
+        WriteTotals totals = writeFiles(files);
+        log.info("UPDATE mode completed: {} added, {} updated, {} skipped, {} duplicates (catalog version {})",
+            totals.inserted(), totals.updated(), totals.unchanged(), totals.duplicates(), totals.catalogVersion());
     }
 
     /**
      * VALIDATE mode: Just validate files, no database changes.
+     * Files already applied with the same hash were validated when they were seeded.
      */
     private void validateMode() {
         log.info("Starting VALIDATE mode...");
         try {
-            List<Word> words = loadAllWords();
-            log.info("Validation successful: {} words found in JSON files", words.size());
+            List<Word> words = loadAllFiles(loadManifestHashes()).stream()
+                .flatMap(seedFile -> seedFile.file().words().stream())
+                .toList();
+            log.info("Validation successful: {} words found in new or changed JSON files", words.size());
 
             // Log stats per level
             Map<CefrLevel, Long> levelCounts = words.stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                    Word::getCefrLevel,
-                    java.util.stream.Collectors.counting()
-                ));
+                .collect(Collectors.groupingBy(Word::getCefrLevel, Collectors.counting()));
             levelCounts.forEach((level, count) ->
                 log.info("  {} level: {} words", level, count)
             );
@@ -126,207 +141,134 @@ public class DataInitializer implements ApplicationRunner {
     }
 
     /**
-     * Load all words from JSON files in the data directory.
+     * Upsert all parsed files, update their manifest entries and bump the
+     * catalog version once for the whole run.
      */
-    private List<Word> loadAllWords() {
-        List<Word> allWords = new ArrayList<>();
-        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
-
-        try {
-            Resource[] resources = resolver.getResources("classpath:data/words-*.json");
-            log.info("Found {} word data files", resources.length);
-
-            for (Resource resource : resources) {
-                log.info("Loading words from: {}", resource.getFilename());
-                List<Word> words = loadWordsFromResource(resource);
-                allWords.addAll(words);
-                log.info("  Loaded {} words from {}", words.size(), resource.getFilename());
-            }
-        } catch (IOException e) {
-            log.error("Error loading word files: {}", e.getMessage(), e);
+    private WriteTotals writeFiles(List<SeedFile> files) {
+        int inserted = 0;
+        int updated = 0;
+        int unchanged = 0;
+        int duplicates = 0;
+        List<Long> changedIds = new ArrayList<>();
+        List<SeedManifest> manifest = new ArrayList<>(files.size());
+
+        for (SeedFile seedFile : files) {
+            WordDataReader.WordFile file = seedFile.file();
+            long start = System.nanoTime();
+            WordBulkRepository.UpsertResult result = wordBulkRepository.upsertAll(file.words());
+            long writeMillis = (System.nanoTime() - start) / 1_000_000;
+
+            log.info("  {}: {} added, {} updated, {} unchanged, {} duplicates (parse {} ms, write {} ms)",
+                file.filename(), result.inserted(), result.updated(), result.unchanged(), result.duplicates(),
+                file.parseMillis(), writeMillis);
+
+            inserted += result.inserted();
+            updated += result.updated();
+            unchanged += result.unchanged();
+            duplicates += result.duplicates();
+            changedIds.addAll(result.changedIds());
+            manifest.add(SeedManifest.builder()
+                .filename(file.filename())
+                .contentHash(seedFile.contentHash())
+                .wordCount(file.words().size())
+                .seededAt(Instant.now())
+                .build());
         }
 
-        return allWords;
+        seedManifestRepository.saveAll(manifest);
+        // The bulk upsert bypasses Hibernate, so cached words and counts are stale now
+        cacheService.evictWordCatalog();
+        long version = catalogVersionService.recordChanges(changedIds, WordChangeType.UPSERT);
+        return new WriteTotals(inserted, updated, unchanged, duplicates, version);
     }
 
     /**
-     * Load words from a single JSON resource file.
+     * Last applied content hash per seed file.
      */
-    private List<Word> loadWordsFromResource(Resource resource) {
-        List<Word> words = new ArrayList<>();
-
-        try (InputStream is = resource.getInputStream()) {
-            JsonNode root = objectMapper.readTree(is);
-
-            // Get metadata for CEFR level
-            JsonNode metadata = root.get("metadata");
-            String levelStr = metadata != null && metadata.has("level")
-                ? metadata.get("level").asText()
-                : extractLevelFromFilename(resource.getFilename());
-            CefrLevel cefrLevel = CefrLevel.valueOf(levelStr);
-
-            String source = metadata != null && metadata.has("source")
-                ? metadata.get("source").asText()
-                : "Unknown";
-
-            // Parse words array
-            JsonNode wordsArray = root.get("words");
-            if (wordsArray != null && wordsArray.isArray()) {
-                for (JsonNode wordNode : wordsArray) {
-                    Word word = parseWordNode(wordNode, cefrLevel, source);
-                    if (word != null) {
-                        words.add(word);
-                    }
-                }
-            }
-        } catch (IOException e) {
-            log.error("Error reading file {}: {}", resource.getFilename(), e.getMessage());
-        }
-
-        return words;
+    private Map<String, String> loadManifestHashes() {
+        return seedManifestRepository.findAll().stream()
+            .collect(Collectors.toMap(SeedManifest::getFilename, SeedManifest::getContentHash));
     }
 
     /**
-     * Parse a single word JSON node into a Word entity.
+     * Load word files from the data directory, parsing them in parallel.
+     * Files whose content hash matches {@code knownHashes} are skipped without parsing.
+     * Results keep the resolver's file order.
      */
-    private Word parseWordNode(JsonNode node, CefrLevel defaultLevel, String source) {
-        try {
-            String german = node.get("german").asText();
-
-            // Parse translations to JSON string
-            String translations = node.has("translations")
-                ? objectMapper.writeValueAsString(node.get("translations"))
-                : null;
-
-            // Parse example sentences to JSON string
-            String exampleSentences = node.has("examples")
-                ? objectMapper.writeValueAsString(node.get("examples"))
-                : null;
-
-            // Parse tags to JSON string
-            String tags = node.has("tags")
-                ? objectMapper.writeValueAsString(node.get("tags"))
-                : null;
+    private List<SeedFile> loadAllFiles(Map<String, String> knownHashes) {
+        List<SeedFile> files = new ArrayList<>();
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
 
-            // Parse word type
-            WordType wordType = null;
-            if (node.has("wordType") && !node.get("wordType").isNull()) {
-                try {
-                    wordType = WordType.valueOf(node.get("wordType").asText());
-                } catch (IllegalArgumentException e) {
-                    log.warn("Unknown word type: {} for word: {}",
-                        node.get("wordType").asText(), german);
-                }
-            }
+        Resource[] resources;
+        try {
+            resources = resolver.getResources("classpath:data/words-*.json");
+        } catch (IOException e) {
+            log.error("Error loading word files: {}", e.getMessage(), e);
+            return files;
+        }
+        log.info("Found {} word data files", resources.length);
 
-            // Parse category
-            WordCategory category = null;
-            if (node.has("category") && !node.get("category").isNull()) {
-                try {
-                    category = WordCategory.valueOf(node.get("category").asText());
-                } catch (IllegalArgumentException e) {
-                    log.warn("Unknown category: {} for word: {}",
-                        node.get("category").asText(), german);
-                }
+        long start = System.nanoTime();
+        int skipped = 0;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<SeedFile>> futures = new ArrayList<>(resources.length);
+            for (Resource resource : resources) {
+                futures.add(executor.submit(() -> readIfChanged(resource, knownHashes)));
             }
 
-            // Parse CEFR level (use default if not specified)
-            CefrLevel level = defaultLevel;
-            if (node.has("cefrLevel") && !node.get("cefrLevel").isNull()) {
+            for (int i = 0; i < futures.size(); i++) {
                 try {
-                    level = CefrLevel.valueOf(node.get("cefrLevel").asText());
-                } catch (IllegalArgumentException e) {
-                    log.warn("Unknown CEFR level: {} for word: {}, using default: {}",
-                        node.get("cefrLevel").asText(), german, defaultLevel);
+                    SeedFile seedFile = futures.get(i).get();
+                    if (seedFile == null) {
+                        skipped++;
+                        continue;
+                    }
+                    files.add(seedFile);
+                    log.info("  Loaded {} words from {} in {} ms",
+                        seedFile.file().words().size(), seedFile.file().filename(),
+                        seedFile.file().parseMillis());
+                } catch (ExecutionException e) {
+                    log.error("Error reading file {}: {}",
+                        resources[i].getFilename(), e.getCause().getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.error("Interrupted while loading word files");
+                    break;
                 }
             }
-
-            // Parse initial difficulty
-            int difficulty = 1000;
-            if (node.has("difficulty") && node.get("difficulty").has("initial")) {
-                difficulty = node.get("difficulty").get("initial").asInt(1000);
-            }
-
-            return Word.builder()
-                .german(german)
-                .article(getTextOrNull(node, "article"))
-                .plural(getTextOrNull(node, "plural"))
-                .translations(translations)
-                .wordType(wordType)
-                .cefrLevel(level)
-                .category(category)
-                .exampleSentences(exampleSentences)
-                .difficultyRating(difficulty)
-                .tags(tags)
-                .source(source)
-                .isActive(true)
-                .timesShown(0L)
-                .timesCorrect(0L)
-                .build();
-
-        } catch (Exception e) {
-            log.error("Error parsing word node: {}", e.getMessage());
-            return null;
         }
-    }
 
-    /**
-     * Extract CEFR level from filename (e.g., "words-a1.json" -> "A1").
-     */
-    private String extractLevelFromFilename(String filename) {
-        if (filename == null) return "A1";
-
-        // Pattern: words-a1.json, words-a2-sample.json, etc.
-        String lower = filename.toLowerCase();
-        if (lower.contains("-a1")) return "A1";
-        if (lower.contains("-a2")) return "A2";
-        if (lower.contains("-b1")) return "B1";
-        if (lower.contains("-b2")) return "B2";
-        if (lower.contains("-c1")) return "C1";
-        if (lower.contains("-c2")) return "C2";
-
-        return "A1"; // Default
+        log.info("Parsed {} word data files in {} ms ({} unchanged, skipped)",
+            files.size(), (System.nanoTime() - start) / 1_000_000, skipped);
+        return files;
     }
 
     /**
-     * Get text value from JSON node or null if not present.
+     * Hash the raw file content and parse it only if the hash differs from the manifest.
+     *
+     * @return the parsed file, or null if unchanged
      */
-    private String getTextOrNull(JsonNode node, String field) {
-        if (node.has(field) && !node.get(field).isNull()) {
-            return node.get(field).asText();
+    private SeedFile readIfChanged(Resource resource, Map<String, String> knownHashes) throws IOException {
+        byte[] content = resource.getContentAsByteArray();
+        String hash = sha256(content);
+        if (hash.equals(knownHashes.get(resource.getFilename()))) {
+            log.debug("  {} unchanged (sha256 {})", resource.getFilename(), hash);
+            return null;
         }
-        return null;
+        WordDataReader.WordFile file = wordDataReader.read(resource.getFilename(), new ByteArrayInputStream(content));
+        return new SeedFile(file, hash);
     }
 
-    /**
-     * Update existing word fields with new data.
-     */
-    private void updateWordFields(Word existing, Word newWord) {
-        // Update basic fields
-        if (newWord.getArticle() != null) {
-            existing.setArticle(newWord.getArticle());
-        }
-        if (newWord.getPlural() != null) {
-            existing.setPlural(newWord.getPlural());
-        }
-        if (newWord.getTranslations() != null) {
-            existing.setTranslations(newWord.getTranslations());
-        }
-        if (newWord.getWordType() != null) {
-            existing.setWordType(newWord.getWordType());
-        }
-        if (newWord.getCategory() != null) {
-            existing.setCategory(newWord.getCategory());
-        }
-        if (newWord.getExampleSentences() != null) {
-            existing.setExampleSentences(newWord.getExampleSentences());
-        }
-        if (newWord.getTags() != null) {
-            existing.setTags(newWord.getTags());
-        }
-        if (newWord.getSource() != null) {
-            existing.setSource(newWord.getSource());
+    private static String sha256(byte[] content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
-        // Don't update difficulty rating or stats - preserve user-generated data
     }
+
+    private record SeedFile(WordDataReader.WordFile file, String contentHash) {}
+
+    private record WriteTotals(int inserted, int updated, int unchanged, int duplicates, long catalogVersion) {}
 }
@@ -17,4 +17,5 @@ public class JwtProperties {
     private String secret;
     private long accessTokenExpiration = 900000;      // 15 minutes
     private long refreshTokenExpiration = 604800000;  // 7 days
+    private int verifiedTokenCacheSize = 10000;       // recently verified access tokens, 0 = off
 }
@@ -34,4 +34,29 @@ public class MailProperties {
      * Frontend base URL for links in emails.
      */
     private String frontendUrl = "http://localhost:4200";
+
+    /**
+     * Outbox delivery settings.
+     */
+    private Outbox outbox = new Outbox();
+
+    @Getter
+    @Setter
+    public static class Outbox {
+        // Emails claimed per worker round trip
+        private int batchSize = 50;
+        // Concurrent SMTP connections per instance
+        private int workers = 4;
+        // Emails sent over one connection before it is closed and reopened
+        private int messagesPerConnection = 20;
+        // Attempts before an email is marked FAILED
+        private int maxAttempts = 8;
+        // Retry delay doubles from this up to maxBackoffSeconds
+        private int initialBackoffSeconds = 30;
+        private int maxBackoffSeconds = 3600;
+        // Claimed emails of a crashed worker become due again after this
+        private int leaseSeconds = 300;
+        // Sent and failed emails are deleted after this
+        private int retentionDays = 14;
+    }
 }
@@ -1,12 +1,15 @@
 package com.vokabelnetz.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Configuration for scheduled tasks.
+ * Disabled with {@code app.scheduling.enabled=false}, e.g. in integration tests.
  */
 @Configuration
 @EnableScheduling
+@ConditionalOnProperty(name = "app.scheduling.enabled", havingValue = "true", matchIfMissing = true)
 public class SchedulingConfig {
 }
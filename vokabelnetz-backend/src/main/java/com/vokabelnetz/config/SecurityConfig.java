@@ -1,7 +1,12 @@
 package com.vokabelnetz.config;
 
+import com.vokabelnetz.security.BoundedPasswordEncoder;
 import com.vokabelnetz.security.JwtAuthenticationFilter;
+import com.vokabelnetz.security.RateLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -13,7 +18,6 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -22,6 +26,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Security configuration.
@@ -34,8 +39,13 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final CorsProperties corsProperties;
 
+    // Separate actuator port in production, reachable only from the internal network
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         return http
@@ -48,11 +58,20 @@ public class SecurityConfig {
                 // Public endpoints
                 .requestMatchers("/auth/**").permitAll()
                 .requestMatchers("/health").permitAll()
+                // JFR recordings contain system properties and environment; super admins only
+                .requestMatchers("/actuator/jfr", "/actuator/jfr/**").hasRole("SUPER")
+                // Prometheus scrapes the management port; on the public port metrics are admin-only
+                .requestMatchers(request -> request.getLocalPort() == managementPort).permitAll()
+                .requestMatchers("/actuator/prometheus", "/actuator/metrics", "/actuator/metrics/**")
+                    .hasAnyRole("ADMIN", "SUPER")
                 .requestMatchers("/actuator/**").permitAll()
                 .requestMatchers("/v3/api-docs/**").permitAll()
                 .requestMatchers("/swagger-ui/**").permitAll()
                 .requestMatchers("/swagger-ui.html").permitAll()
 
+                // Media - content-addressed and public so <audio>/<img> can load it
+                .requestMatchers(HttpMethod.GET, "/media/**").permitAll()
+
                 // Word endpoints - authenticated users
                 .requestMatchers(HttpMethod.GET, "/words/**").hasAnyRole("USER", "ADMIN", "SUPER")
 
@@ -76,6 +95,8 @@ public class SecurityConfig {
                 .anyRequest().authenticated()
             )
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            // After JWT so authenticated requests are limited per user, not per IP
+            .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
             .build();
     }
 
@@ -101,16 +122,26 @@ public class SecurityConfig {
     /**
      * Password encoder using Argon2id.
      * Based on SECURITY.md - Argon2id is the recommended algorithm.
+     * Hashing runs on the bounded passwordHashExecutor, not on request threads.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
+    public BoundedPasswordEncoder passwordEncoder(
+        @Qualifier("passwordHashExecutor") ExecutorService passwordHashExecutor,
+        AppProperties appProperties,
+        MeterRegistry meterRegistry
+    ) {
         // Argon2id configuration:
         // - Salt length: 16 bytes
         // - Hash length: 32 bytes
         // - Parallelism: 1
         // - Memory: 16 MB (16384 KB)
         // - Iterations: 2
-        return Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8();
+        return new BoundedPasswordEncoder(
+            Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8(),
+            passwordHashExecutor,
+            appProperties.getSecurity().getPasswordHashTimeoutMs(),
+            meterRegistry
+        );
     }
 
     @Bean
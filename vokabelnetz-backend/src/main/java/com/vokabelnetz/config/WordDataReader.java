@@ -0,0 +1,230 @@
+package com.vokabelnetz.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vokabelnetz.entity.Word;
+import com.vokabelnetz.entity.enums.CefrLevel;
+import com.vokabelnetz.entity.enums.WordCategory;
+import com.vokabelnetz.entity.enums.WordType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming reader for word data JSON files.
+ *
+ * Walks the file token by token with a Jackson {@link JsonParser} instead of
+ * building a full tree, and copies the JSONB sub-documents (translations,
+ * examples, tags) straight to strings without an intermediate node.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WordDataReader {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Words parsed from a single data file.
+     */
+    public record WordFile(String filename, CefrLevel level, List<Word> words, long parseMillis) {}
+
+    /**
+     * Parse word data from an already opened stream. The caller closes the stream.
+     */
+    public WordFile read(String filename, InputStream is) throws IOException {
+        long start = System.nanoTime();
+
+        String levelStr = null;
+        String source = null;
+        List<Word> words = new ArrayList<>();
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(is)) {
+
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected JSON object at root of " + filename);
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+
+                if ("metadata".equals(field) && token == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String metaField = parser.currentName();
+                        parser.nextToken();
+                        switch (metaField) {
+                            case "level" -> levelStr = textOrNull(parser);
+                            case "source" -> source = textOrNull(parser);
+                            default -> parser.skipChildren();
+                        }
+                    }
+                } else if ("words".equals(field) && token == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        Word word = readWord(parser);
+                        if (word != null) {
+                            words.add(word);
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        // Metadata may appear after the words array - apply file defaults afterwards
+        CefrLevel fileLevel = CefrLevel.valueOf(
+            levelStr != null ? levelStr : extractLevelFromFilename(filename)
+        );
+        String fileSource = source != null ? source : "Unknown";
+        for (Word word : words) {
+            if (word.getCefrLevel() == null) {
+                word.setCefrLevel(fileLevel);
+            }
+            word.setSource(fileSource);
+        }
+
+        long parseMillis = (System.nanoTime() - start) / 1_000_000;
+        return new WordFile(filename, fileLevel, words, parseMillis);
+    }
+
+    /**
+     * Read one word object. Parser is positioned on its START_OBJECT.
+     */
+    private Word readWord(JsonParser parser) throws IOException {
+        Word word = Word.builder()
+            .difficultyRating(1000)
+            .isActive(true)
+            .timesShown(0L)
+            .timesCorrect(0L)
+            .build();
+
+        String wordTypeStr = null;
+        String categoryStr = null;
+        String levelStr = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+
+            switch (field) {
+                case "german" -> word.setGerman(textOrNull(parser));
+                case "article" -> word.setArticle(textOrNull(parser));
+                case "plural" -> word.setPlural(textOrNull(parser));
+                case "wordType" -> wordTypeStr = textOrNull(parser);
+                case "category" -> categoryStr = textOrNull(parser);
+                case "cefrLevel" -> levelStr = textOrNull(parser);
+                case "translations" -> word.setTranslations(copyRaw(parser));
+                case "examples" -> word.setExampleSentences(copyRaw(parser));
+                case "tags" -> word.setTags(copyRaw(parser));
+                case "difficulty" -> word.setDifficultyRating(readInitialDifficulty(parser));
+                default -> parser.skipChildren();
+            }
+        }
+
+        String german = word.getGerman();
+        if (german == null || german.isBlank()) {
+            log.error("Error parsing word node: missing 'german' field");
+            return null;
+        }
+
+        if (wordTypeStr != null) {
+            try {
+                word.setWordType(WordType.valueOf(wordTypeStr));
+            } catch (IllegalArgumentException e) {
+                log.warn("Unknown word type: {} for word: {}", wordTypeStr, german);
+            }
+        }
+
+        if (categoryStr != null) {
+            try {
+                word.setCategory(WordCategory.valueOf(categoryStr));
+            } catch (IllegalArgumentException e) {
+                log.warn("Unknown category: {} for word: {}", categoryStr, german);
+            }
+        }
+
+        // CEFR level (null = use file default)
+        if (levelStr != null) {
+            try {
+                word.setCefrLevel(CefrLevel.valueOf(levelStr));
+            } catch (IllegalArgumentException e) {
+                log.warn("Unknown CEFR level: {} for word: {}, using file default", levelStr, german);
+            }
+        }
+
+        return word;
+    }
+
+    /**
+     * Read "difficulty": { "initial": 900, ... }.
+     */
+    private int readInitialDifficulty(JsonParser parser) throws IOException {
+        int difficulty = 1000;
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return difficulty;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("initial".equals(field)) {
+                difficulty = parser.getValueAsInt(1000);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return difficulty;
+    }
+
+    /**
+     * Copy the current value (object, array or scalar) to a JSON string.
+     */
+    private String copyRaw(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        StringWriter out = new StringWriter(128);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.copyCurrentStructure(parser);
+        }
+        return out.toString();
+    }
+
+    private String textOrNull(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (parser.currentToken().isStructStart()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getValueAsString();
+    }
+
+    /**
+     * Extract CEFR level from filename (e.g., "words-a1.json" -> "A1").
+     */
+    private String extractLevelFromFilename(String filename) {
+        if (filename == null) return "A1";
+
+        // Pattern: words-a1.json, words-a2-sample.json, etc.
+        String lower = filename.toLowerCase();
+        if (lower.contains("-a1")) return "A1";
+        if (lower.contains("-a2")) return "A2";
+        if (lower.contains("-b1")) return "B1";
+        if (lower.contains("-b2")) return "B2";
+        if (lower.contains("-c1")) return "C1";
+        if (lower.contains("-c2")) return "C2";
+
+        return "A1"; // Default
+    }
+}
@@ -0,0 +1,43 @@
+package com.vokabelnetz.controller;
+
+import com.vokabelnetz.dto.response.ApiResponse;
+import com.vokabelnetz.dto.response.CacheStatsResponse;
+import com.vokabelnetz.service.SecondLevelCacheService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Second-level cache administration controller.
+ */
+@RestController
+@RequestMapping("/admin/cache")
+@RequiredArgsConstructor
+@Tag(name = "Admin - Cache", description = "Second-level cache statistics")
+public class AdminCacheController {
+
+    private final SecondLevelCacheService cacheService;
+
+    /**
+     * Get cache hit ratios per region.
+     * GET /api/admin/cache/stats
+     */
+    @GetMapping("/stats")
+    @Operation(summary = "Cache statistics", description = "Second-level and query cache hit ratios")
+    public ResponseEntity<ApiResponse<CacheStatsResponse>> getStats() {
+        return ResponseEntity.ok(ApiResponse.success(cacheService.getStatistics()));
+    }
+
+    /**
+     * Reset cache statistics.
+     * DELETE /api/admin/cache/stats
+     */
+    @DeleteMapping("/stats")
+    @Operation(summary = "Reset cache statistics", description = "Start a new measurement window")
+    public ResponseEntity<ApiResponse<Void>> resetStats() {
+        cacheService.resetStatistics();
+        return ResponseEntity.ok(ApiResponse.success("Cache statistics reset"));
+    }
+}
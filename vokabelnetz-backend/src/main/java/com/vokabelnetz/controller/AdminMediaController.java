@@ -0,0 +1,73 @@
+package com.vokabelnetz.controller;
+
+import com.vokabelnetz.dto.response.ApiResponse;
+import com.vokabelnetz.dto.response.MediaUploadResponse;
+import com.vokabelnetz.entity.Word;
+import com.vokabelnetz.exception.BadRequestException;
+import com.vokabelnetz.service.MediaStorageService;
+import com.vokabelnetz.service.WordService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Media upload for word audio and images.
+ */
+@RestController
+@RequestMapping("/admin/media")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Admin - Media", description = "Word media upload endpoints")
+public class AdminMediaController {
+
+    private final MediaStorageService mediaStorageService;
+    private final WordService wordService;
+
+    /**
+     * Upload an audio or image file, optionally attaching it to a word.
+     * POST /api/admin/media
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Upload media", description = "Store audio or image; set wordId to attach it")
+    public ResponseEntity<ApiResponse<MediaUploadResponse>> upload(
+        @RequestParam("file") MultipartFile file,
+        @RequestParam(required = false) Long wordId
+    ) throws IOException {
+        if (file.isEmpty()) {
+            throw new BadRequestException("file is required");
+        }
+
+        MediaStorageService.StoredMedia media;
+        try (InputStream in = file.getInputStream()) {
+            media = mediaStorageService.store(in, file.getOriginalFilename());
+        }
+        String url = "/api/media/" + media.key();
+
+        if (wordId != null) {
+            Word word = wordService.findById(wordId);
+            if ("audio".equals(media.mediaType().getType())) {
+                word.setAudioUrl(url);
+            } else {
+                word.setImageUrl(url);
+            }
+            wordService.save(word);
+            log.info("Admin attached media {} to word {}", media.key(), wordId);
+        }
+
+        return ResponseEntity.ok(ApiResponse.success(MediaUploadResponse.builder()
+            .key(media.key())
+            .url(url)
+            .contentType(media.mediaType().toString())
+            .size(media.size())
+            .wordId(wordId)
+            .build()));
+    }
+}
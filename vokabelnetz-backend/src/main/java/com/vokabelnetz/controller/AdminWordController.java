@@ -0,0 +1,123 @@
+package com.vokabelnetz.controller;
+
+import com.vokabelnetz.dto.request.UpdateWordRequest;
+import com.vokabelnetz.dto.response.ApiResponse;
+import com.vokabelnetz.entity.Word;
+import com.vokabelnetz.exception.BadRequestException;
+import com.vokabelnetz.service.WordService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Word catalog administration controller.
+ * Every edit bumps the catalog version (see GET /words/changes).
+ */
+@RestController
+@RequestMapping("/admin/words")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Admin - Words", description = "Word catalog administration endpoints")
+public class AdminWordController {
+
+    private final WordService wordService;
+
+    /**
+     * Create a word.
+     * POST /api/admin/words
+     */
+    @PostMapping
+    @Operation(summary = "Create word", description = "Add a word to the catalog")
+    public ResponseEntity<ApiResponse<Word>> createWord(
+        @Valid @RequestBody UpdateWordRequest request
+    ) {
+        if (request.getGerman() == null || request.getCefrLevel() == null) {
+            throw new BadRequestException("german and cefrLevel are required");
+        }
+
+        Word word = Word.builder()
+            .german(request.getGerman())
+            .cefrLevel(request.getCefrLevel())
+            .build();
+        applyChanges(word, request);
+
+        Word saved = wordService.save(word);
+        log.info("Admin created word {}", saved.getId());
+
+        return ResponseEntity.ok(ApiResponse.success(saved));
+    }
+
+    /**
+     * Update a word.
+     * PUT /api/admin/words/{id}
+     */
+    @PutMapping("/{id}")
+    @Operation(summary = "Update word", description = "Edit an existing word")
+    public ResponseEntity<ApiResponse<Word>> updateWord(
+        @PathVariable Long id,
+        @Valid @RequestBody UpdateWordRequest request
+    ) {
+        Word word = wordService.findById(id);
+        applyChanges(word, request);
+
+        Word saved = wordService.save(word);
+        log.info("Admin updated word {}", id);
+
+        return ResponseEntity.ok(ApiResponse.success(saved));
+    }
+
+    /**
+     * Deactivate a word.
+     * DELETE /api/admin/words/{id}
+     */
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Deactivate word", description = "Remove a word from the active catalog")
+    public ResponseEntity<ApiResponse<Word>> deactivateWord(@PathVariable Long id) {
+        Word word = wordService.deactivate(id);
+        log.info("Admin deactivated word {}", id);
+        return ResponseEntity.ok(ApiResponse.success(word));
+    }
+
+    private void applyChanges(Word word, UpdateWordRequest request) {
+        if (request.getGerman() != null) {
+            word.setGerman(request.getGerman());
+        }
+        if (request.getArticle() != null) {
+            word.setArticle(request.getArticle());
+        }
+        if (request.getPlural() != null) {
+            word.setPlural(request.getPlural());
+        }
+        if (request.getTranslations() != null) {
+            word.setTranslations(request.getTranslations());
+        }
+        if (request.getWordType() != null) {
+            word.setWordType(request.getWordType());
+        }
+        if (request.getCefrLevel() != null) {
+            word.setCefrLevel(request.getCefrLevel());
+        }
+        if (request.getCategory() != null) {
+            word.setCategory(request.getCategory());
+        }
+        if (request.getExampleSentences() != null) {
+            word.setExampleSentences(request.getExampleSentences());
+        }
+        if (request.getAudioUrl() != null) {
+            word.setAudioUrl(request.getAudioUrl());
+        }
+        if (request.getImageUrl() != null) {
+            word.setImageUrl(request.getImageUrl());
+        }
+        if (request.getTags() != null) {
+            word.setTags(request.getTags());
+        }
+        if (request.getIsActive() != null) {
+            word.setIsActive(request.getIsActive());
+        }
+    }
+}
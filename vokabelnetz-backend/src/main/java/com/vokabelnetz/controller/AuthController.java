@@ -9,6 +9,7 @@ import com.vokabelnetz.dto.response.AuthResponse;
 import com.vokabelnetz.dto.response.SessionResponse;
 import com.vokabelnetz.entity.RefreshToken;
 import com.vokabelnetz.entity.User;
+import com.vokabelnetz.security.AuthenticatedUser;
 import com.vokabelnetz.security.CurrentUser;
 import com.vokabelnetz.service.AuthService;
 import com.vokabelnetz.service.EmailVerificationService;
@@ -170,9 +171,9 @@ public class AuthController {
      */
     @PostMapping("/logout-all")
     public ResponseEntity<ApiResponse<Map<String, String>>> logoutAll(
-        @CurrentUser User user
+        @CurrentUser AuthenticatedUser user
     ) {
-        authService.logoutAll(user.getId());
+        authService.logoutAll(user.id());
         return ResponseEntity.ok(ApiResponse.success(Map.of("message", "Logged out from all devices")));
     }
 
@@ -242,11 +243,11 @@ public class AuthController {
      */
     @GetMapping("/sessions")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getSessions(
-        @CurrentUser User user,
+        @CurrentUser AuthenticatedUser user,
         @RequestHeader(value = "Authorization", required = false) String authHeader
     ) {
         String currentToken = extractToken(authHeader);
-        List<SessionResponse> sessions = sessionService.getActiveSessions(user.getId(), currentToken);
+        List<SessionResponse> sessions = sessionService.getActiveSessions(user.id(), currentToken);
         return ResponseEntity.ok(ApiResponse.success(Map.of(
             "sessions", sessions,
             "totalSessions", sessions.size()
@@ -259,10 +260,10 @@ public class AuthController {
      */
     @DeleteMapping("/sessions/{sessionId}")
     public ResponseEntity<ApiResponse<Map<String, String>>> revokeSession(
-        @CurrentUser User user,
+        @CurrentUser AuthenticatedUser user,
         @PathVariable Long sessionId
     ) {
-        sessionService.revokeSession(user.getId(), sessionId);
+        sessionService.revokeSession(user.id(), sessionId);
         return ResponseEntity.ok(ApiResponse.success(
             Map.of("message", "Session revoked successfully")
         ));
@@ -0,0 +1,52 @@
+package com.vokabelnetz.controller;
+
+import com.vokabelnetz.service.MediaStorageService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ * Serves word audio and images from the local media store.
+ *
+ * Keys are content hashes, so responses are immutable. Returning a
+ * {@link Resource} lets Spring MVC answer Range requests with 206 region
+ * responses and If-None-Match with 304 based on the ETag set here.
+ */
+@RestController
+@RequestMapping("/media")
+@RequiredArgsConstructor
+@Tag(name = "Media", description = "Word audio and image files")
+public class MediaController {
+
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365))
+        .cachePublic()
+        .immutable();
+
+    private final MediaStorageService mediaStorageService;
+
+    /**
+     * Get a media file.
+     * GET /api/media/{key}
+     */
+    @GetMapping("/{key}")
+    @Operation(summary = "Get media", description = "Download audio or image by content key (supports Range)")
+    public ResponseEntity<Resource> getMedia(@PathVariable String key) {
+        MediaStorageService.StoredMedia media = mediaStorageService.load(key);
+
+        return ResponseEntity.ok()
+            .contentType(media.mediaType())
+            .eTag(media.hash())
+            .cacheControl(IMMUTABLE)
+            .body(new FileSystemResource(media.path()));
+    }
+}
@@ -5,6 +5,7 @@ import com.vokabelnetz.entity.DailyStats;
 import com.vokabelnetz.entity.User;
 import com.vokabelnetz.entity.UserWordProgress;
 import com.vokabelnetz.entity.enums.CefrLevel;
+import com.vokabelnetz.security.AuthenticatedUser;
 import com.vokabelnetz.security.CurrentUser;
 import com.vokabelnetz.service.DailyStatsService;
 import com.vokabelnetz.service.ProgressService;
@@ -58,10 +59,10 @@ public class ProgressController {
      * GET /api/progress/weekly
      */
     @GetMapping("/weekly")
-    public ResponseEntity<ApiResponse<List<DailyStats>>> getWeeklyStats(@CurrentUser User user) {
+    public ResponseEntity<ApiResponse<List<DailyStats>>> getWeeklyStats(@CurrentUser AuthenticatedUser user) {
         LocalDate today = LocalDate.now();
         LocalDate weekAgo = today.minusDays(7);
-        List<DailyStats> stats = dailyStatsService.getStatsForDateRange(user.getId(), weekAgo, today);
+        List<DailyStats> stats = dailyStatsService.getStatsForDateRange(user.id(), weekAgo, today);
         return ResponseEntity.ok(ApiResponse.success(stats));
     }
 
@@ -70,10 +71,10 @@ public class ProgressController {
      * GET /api/progress/monthly
      */
     @GetMapping("/monthly")
-    public ResponseEntity<ApiResponse<List<DailyStats>>> getMonthlyStats(@CurrentUser User user) {
+    public ResponseEntity<ApiResponse<List<DailyStats>>> getMonthlyStats(@CurrentUser AuthenticatedUser user) {
         LocalDate today = LocalDate.now();
         LocalDate monthAgo = today.minusDays(30);
-        List<DailyStats> stats = dailyStatsService.getStatsForDateRange(user.getId(), monthAgo, today);
+        List<DailyStats> stats = dailyStatsService.getStatsForDateRange(user.id(), monthAgo, today);
         return ResponseEntity.ok(ApiResponse.success(stats));
     }
 
@@ -1,10 +1,12 @@
 package com.vokabelnetz.controller;
 
 import com.vokabelnetz.dto.response.ApiResponse;
+import com.vokabelnetz.dto.response.CatalogChangesResponse;
 import com.vokabelnetz.dto.response.MetaData;
 import com.vokabelnetz.entity.Word;
 import com.vokabelnetz.entity.enums.CefrLevel;
 import com.vokabelnetz.entity.enums.WordCategory;
+import com.vokabelnetz.service.CatalogVersionService;
 import com.vokabelnetz.service.WordService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -29,6 +31,7 @@ import java.util.Map;
 public class WordController {
 
     private final WordService wordService;
+    private final CatalogVersionService catalogVersionService;
 
     /**
      * Get all words with pagination.
@@ -133,4 +136,18 @@ public class WordController {
         Map<String, Object> stats = wordService.getStats();
         return ResponseEntity.ok(ApiResponse.success(stats));
     }
+
+    /**
+     * Get catalog changes since a cached version (delta sync).
+     * GET /api/words/changes?since=42
+     * Without a version (since=0) the client is told to do a full resync.
+     */
+    @GetMapping("/changes")
+    @Operation(summary = "Get catalog changes", description = "Get word upserts and deactivations since a catalog version")
+    public ResponseEntity<ApiResponse<CatalogChangesResponse>> getChanges(
+        @RequestParam(defaultValue = "0") long since
+    ) {
+        CatalogChangesResponse changes = catalogVersionService.getChangesSince(since);
+        return ResponseEntity.ok(ApiResponse.success(changes));
+    }
 }
@@ -0,0 +1,45 @@
+package com.vokabelnetz.dto.request;
+
+import com.vokabelnetz.entity.enums.CefrLevel;
+import com.vokabelnetz.entity.enums.WordCategory;
+import com.vokabelnetz.entity.enums.WordType;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request for creating or editing a word (admin).
+ * Null fields are left unchanged. JSON fields are passed as raw JSON strings.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpdateWordRequest {
+
+    @Size(max = 200, message = "german must be at most 200 characters")
+    private String german;
+
+    @Size(max = 10, message = "article must be at most 10 characters")
+    private String article;
+
+    @Size(max = 200, message = "plural must be at most 200 characters")
+    private String plural;
+
+    private String translations;
+    private WordType wordType;
+    private CefrLevel cefrLevel;
+    private WordCategory category;
+    private String exampleSentences;
+
+    @Size(max = 500, message = "audioUrl must be at most 500 characters")
+    private String audioUrl;
+
+    @Size(max = 500, message = "imageUrl must be at most 500 characters")
+    private String imageUrl;
+
+    private String tags;
+    private Boolean isActive;
+}
@@ -0,0 +1,38 @@
+package com.vokabelnetz.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Hibernate second-level and query cache statistics since startup (or last reset).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponse {
+
+    private boolean statisticsEnabled;
+    private List<RegionStats> regions;
+
+    private long queryCacheHits;
+    private long queryCacheMisses;
+    private double queryCacheHitRatio;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RegionStats {
+        private String region;
+        private long hits;
+        private long misses;
+        private long puts;
+        private long entries;
+        private double hitRatio;
+    }
+}
@@ -0,0 +1,29 @@
+package com.vokabelnetz.dto.response;
+
+import com.vokabelnetz.entity.Word;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Word catalog delta since a client's cached version.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogChangesResponse {
+
+    private long since;
+    private long currentVersion;
+
+    // No usable delta: no client version yet, version unknown to the server (e.g. database
+    // was reset), or too many changes since - refetch everything via GET /words
+    private boolean fullResync;
+
+    private List<Word> upserts;
+    private List<Long> deactivations;
+}
@@ -0,0 +1,27 @@
+package com.vokabelnetz.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of a media upload.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MediaUploadResponse {
+
+    private String key;
+
+    // Relative URL to store in Word.audioUrl / Word.imageUrl
+    private String url;
+
+    private String contentType;
+    private long size;
+
+    // Set when the upload was attached to a word
+    private Long wordId;
+}
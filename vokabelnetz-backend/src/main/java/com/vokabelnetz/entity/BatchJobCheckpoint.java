@@ -0,0 +1,61 @@
+package com.vokabelnetz.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Resume point of a chunked user-wide job.
+ * Used by UserBatchJobRunner to continue a crashed run where it stopped.
+ */
+@Entity
+@Table(name = "batch_job_checkpoints")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchJobCheckpoint {
+
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(name = "run_key", nullable = false, length = 100)
+    private String runKey;
+
+    @Builder.Default
+    @Column(nullable = false, length = 20)
+    private String status = RUNNING;
+
+    @Builder.Default
+    @Column(name = "last_user_id", nullable = false)
+    private Long lastUserId = 0L;
+
+    @Builder.Default
+    @Column(name = "processed_users", nullable = false)
+    private Integer processedUsers = 0;
+
+    @Builder.Default
+    @Column(name = "failed_users", nullable = false)
+    private Integer failedUsers = 0;
+
+    @Builder.Default
+    @Column(name = "started_at", nullable = false)
+    private Instant startedAt = Instant.now();
+
+    @Builder.Default
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt = Instant.now();
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    public boolean isCompleted() {
+        return COMPLETED.equals(status);
+    }
+}
@@ -12,7 +12,7 @@ import java.time.Instant;
 @Entity
 @Table(name = "refresh_tokens", indexes = {
     @Index(name = "idx_rt_user_id", columnList = "user_id"),
-    @Index(name = "idx_rt_token", columnList = "token"),
+    @Index(name = "idx_rt_token_hash", columnList = "token_hash", unique = true),
     @Index(name = "idx_rt_expires_at", columnList = "expires_at")
 })
 @Getter
@@ -26,8 +26,11 @@ public class RefreshToken extends BaseEntity {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @Column(nullable = false, unique = true, length = 500)
-    private String token;
+    /**
+     * SHA-256 of the raw token; the raw value is only ever held by the client.
+     */
+    @Column(name = "token_hash", nullable = false, unique = true, columnDefinition = "bytea")
+    private byte[] tokenHash;
 
     @Column(name = "expires_at", nullable = false)
     private Instant expiresAt;
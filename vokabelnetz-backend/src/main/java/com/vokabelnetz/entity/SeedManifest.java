@@ -0,0 +1,35 @@
+package com.vokabelnetz.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Last applied content hash per seed file.
+ * Used by DataInitializer to skip files that have not changed.
+ */
+@Entity
+@Table(name = "seed_manifest")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeedManifest {
+
+    @Id
+    @Column(name = "filename", length = 255)
+    private String filename;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Builder.Default
+    @Column(name = "word_count", nullable = false)
+    private Integer wordCount = 0;
+
+    @Builder.Default
+    @Column(name = "seeded_at")
+    private Instant seededAt = Instant.now();
+}
@@ -116,6 +116,11 @@ public class User extends BaseEntity {
     @Column(length = 20)
     private Role role = Role.ROLE_USER;
 
+    // Access token generation - only changed by TokenRevocationRepository.revokeAndRecord
+    @Builder.Default
+    @Column(name = "token_generation", nullable = false, insertable = false, updatable = false)
+    private Integer tokenGeneration = 0;
+
     // Password tracking
     @Column(name = "password_changed_at")
     private LocalDateTime passwordChangedAt;
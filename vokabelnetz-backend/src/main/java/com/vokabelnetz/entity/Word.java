@@ -6,6 +6,8 @@ import com.vokabelnetz.entity.enums.WordCategory;
 import com.vokabelnetz.entity.enums.WordType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -16,10 +18,14 @@ import java.util.List;
  * Word entity representing German vocabulary items.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "words", indexes = {
     @Index(name = "idx_words_cefr_level", columnList = "cefr_level"),
     @Index(name = "idx_words_category", columnList = "category"),
     @Index(name = "idx_words_difficulty_rating", columnList = "difficulty_rating")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_words_german_cefr_level", columnNames = {"german", "cefr_level"})
 })
 @Getter
 @Setter
@@ -0,0 +1,42 @@
+package com.vokabelnetz.entity;
+
+import com.vokabelnetz.entity.enums.WordChangeType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Word catalog change log entry.
+ * Each catalog version groups the word IDs that changed in it.
+ */
+@Entity
+@Table(name = "word_changes", indexes = {
+    @Index(name = "idx_wc_catalog_version", columnList = "catalog_version"),
+    @Index(name = "idx_wc_word_id", columnList = "word_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WordChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "catalog_version", nullable = false)
+    private Long catalogVersion;
+
+    @Column(name = "word_id", nullable = false)
+    private Long wordId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 20)
+    private WordChangeType changeType;
+
+    @Builder.Default
+    @Column(name = "created_at")
+    private Instant createdAt = Instant.now();
+}
@@ -0,0 +1,9 @@
+package com.vokabelnetz.entity.enums;
+
+/**
+ * Types of word catalog changes (for delta sync).
+ */
+public enum WordChangeType {
+    UPSERT,     // Word was created or its content changed
+    DEACTIVATE  // Word was removed from the active catalog
+}
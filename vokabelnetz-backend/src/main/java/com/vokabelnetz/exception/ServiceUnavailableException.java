@@ -0,0 +1,17 @@
+package com.vokabelnetz.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when the server is temporarily overloaded (503).
+ */
+public class ServiceUnavailableException extends ApiException {
+
+    public ServiceUnavailableException(String message) {
+        super(message, HttpStatus.SERVICE_UNAVAILABLE, "SERVICE_UNAVAILABLE");
+    }
+
+    public ServiceUnavailableException() {
+        this("Server is busy, please try again shortly");
+    }
+}
@@ -0,0 +1,50 @@
+package com.vokabelnetz.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for one processed answer, with the time spent in each stage.
+ * The event's own duration covers the whole of processAnswer inside the transaction.
+ */
+@Name("vokabelnetz.AnswerProcessed")
+@Label("Answer Processed")
+@Category({"Vokabelnetz", "Learning"})
+@Description("Answer processing with per-stage durations")
+@StackTrace(false)
+public class AnswerProcessedEvent extends Event {
+
+    @Label("User ID")
+    public long userId;
+
+    @Label("Word ID")
+    public long wordId;
+
+    @Label("Quality")
+    @Description("SM-2 quality 0-5")
+    public int quality;
+
+    @Label("Correct")
+    public boolean correct;
+
+    @Label("Elo Update")
+    @Timespan(Timespan.NANOSECONDS)
+    public long eloDuration;
+
+    @Label("SM-2 Update")
+    @Timespan(Timespan.NANOSECONDS)
+    public long sm2Duration;
+
+    @Label("Stats Update")
+    @Timespan(Timespan.NANOSECONDS)
+    public long statsDuration;
+
+    @Label("Streak Status")
+    @Timespan(Timespan.NANOSECONDS)
+    public long streakDuration;
+}
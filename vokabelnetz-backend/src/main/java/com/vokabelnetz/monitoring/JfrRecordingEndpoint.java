@@ -0,0 +1,180 @@
+package com.vokabelnetz.monitoring;
+
+import com.vokabelnetz.config.AppProperties;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Actuator endpoint for an in-process JDK Flight Recorder recording; no agent needed.
+ *
+ * <ul>
+ *   <li>{@code GET /actuator/jfr} - state of the current recording</li>
+ *   <li>{@code POST /actuator/jfr} - start a recording (replaces the previous one)</li>
+ *   <li>{@code DELETE /actuator/jfr} - stop it; the data stays available for a dump</li>
+ *   <li>{@code GET /actuator/jfr/dump} - download the recording as a .jfr file</li>
+ * </ul>
+ *
+ * Recordings are bounded by age and size (app.monitoring.jfr-*), so a dump never grows
+ * beyond that. Besides the JDK events they contain the vokabelnetz.* events.
+ */
+@Component
+@WebEndpoint(id = "jfr")
+@Slf4j
+public class JfrRecordingEndpoint {
+
+    private static final String RECORDING_NAME = "vokabelnetz";
+    // JDK-provided settings: "default" is low overhead (~1%), "profile" samples more
+    private static final Set<String> SETTINGS = Set.of("default", "profile");
+
+    private final AppProperties.Monitoring config;
+    private Recording recording;
+    private String recordingSettings;
+
+    public JfrRecordingEndpoint(AppProperties appProperties) {
+        this.config = appProperties.getMonitoring();
+    }
+
+    public record RecordingStatus(
+        String state,
+        String settings,
+        Instant startTime,
+        Instant stopTime,
+        long maxAgeMinutes,
+        long maxSizeBytes,
+        long sizeBytes
+    ) {}
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startContinuousRecording() {
+        if (config.isJfrContinuous()) {
+            start(null, null, null);
+        }
+    }
+
+    @ReadOperation
+    public synchronized RecordingStatus status() {
+        if (recording == null) {
+            return new RecordingStatus("NONE", null, null, null, 0, 0, 0);
+        }
+        return new RecordingStatus(
+            recording.getState().name(),
+            recordingSettings,
+            recording.getStartTime(),
+            recording.getStopTime(),
+            recording.getMaxAge().toMinutes(),
+            recording.getMaxSize(),
+            recording.getSize()
+        );
+    }
+
+    @WriteOperation
+    public synchronized RecordingStatus start(
+        @Nullable String settings,
+        @Nullable Integer maxAgeMinutes,
+        @Nullable Integer maxSizeMb
+    ) {
+        String settingsName = settings != null ? settings : "default";
+        if (!SETTINGS.contains(settingsName)) {
+            throw new InvalidEndpointRequestException("Unknown JFR settings '" + settingsName + "'",
+                "settings must be one of " + SETTINGS);
+        }
+
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settingsName);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read JFR settings " + settingsName, e);
+        } catch (ParseException e) {
+            throw new IllegalStateException("Invalid JFR settings " + settingsName, e);
+        }
+
+        closeRecording();
+        Recording started = new Recording(configuration);
+        started.setName(RECORDING_NAME);
+        started.setToDisk(true);
+        started.setMaxAge(Duration.ofMinutes(bounded(maxAgeMinutes, config.getJfrMaxAgeMinutes())));
+        started.setMaxSize(bounded(maxSizeMb, config.getJfrMaxSizeMb()) * 1024L * 1024L);
+        started.start();
+        recording = started;
+        recordingSettings = settingsName;
+
+        log.info("JFR recording started ({} settings, max {} min / {} bytes)",
+            settingsName, started.getMaxAge().toMinutes(), started.getMaxSize());
+        return status();
+    }
+
+    @DeleteOperation
+    public synchronized RecordingStatus stop() {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            log.info("JFR recording stopped");
+        }
+        return status();
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized WebEndpointResponse<Resource> dump(@Selector String action) {
+        if (!"dump".equals(action) || recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        try {
+            Path file = Files.createTempFile("vokabelnetz-", ".jfr");
+            recording.dump(file);
+            return new WebEndpointResponse<>(deleteOnClose(file), WebEndpointResponse.STATUS_OK);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot dump JFR recording", e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+            recordingSettings = null;
+        }
+    }
+
+    private static int bounded(Integer requested, int max) {
+        return requested != null ? Math.max(1, Math.min(requested, max)) : max;
+    }
+
+    /**
+     * The dump is a temporary copy, removed once the response has been streamed.
+     */
+    private static Resource deleteOnClose(Path file) {
+        return new FileSystemResource(file) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                return Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE);
+            }
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package com.vokabelnetz.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.support.ScheduledTaskObservationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts SQL statements and JDBC time per scheduled job run.
+ *
+ * Hooks into Spring's observation of {@code @Scheduled} methods, which starts and
+ * stops on the scheduler thread. Batch jobs hand their stats to worker threads
+ * (see UserBatchJobRunner).
+ */
+@Component
+@Slf4j
+public class ScheduledJobSqlObservationHandler implements ObservationHandler<ScheduledTaskObservationContext> {
+
+    private final MeterRegistry meterRegistry;
+
+    public ScheduledJobSqlObservationHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void onStart(ScheduledTaskObservationContext context) {
+        context.put(SqlStatementTracker.Scope.class, SqlStatementTracker.start());
+    }
+
+    @Override
+    public void onStop(ScheduledTaskObservationContext context) {
+        SqlStatementTracker.Scope scope = context.get(SqlStatementTracker.Scope.class);
+        if (scope == null) {
+            return;
+        }
+        scope.close();
+
+        SqlStatementStats stats = scope.stats();
+        String job = context.getTargetClass().getSimpleName() + "." + context.getMethod().getName();
+        DistributionSummary.builder("vokabelnetz.sql.job.statements")
+            .description("SQL statements executed per scheduled job run")
+            .baseUnit("statements")
+            .tag("job", job)
+            .register(meterRegistry)
+            .record(stats.statements());
+        Timer.builder("vokabelnetz.sql.job.time")
+            .description("JDBC execution time per scheduled job run")
+            .tag("job", job)
+            .register(meterRegistry)
+            .record(stats.jdbcTime());
+
+        if (stats.statements() > 0) {
+            log.debug("Job {} executed {} SQL statements ({} ms JDBC time)",
+                job, stats.statements(), stats.jdbcTime().toMillis());
+        }
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return context instanceof ScheduledTaskObservationContext;
+    }
+}
@@ -0,0 +1,41 @@
+package com.vokabelnetz.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one chunk of a user batch job, including its checkpoint update.
+ */
+@Name("vokabelnetz.SchedulerChunk")
+@Label("Scheduler Chunk")
+@Category({"Vokabelnetz", "Scheduler"})
+@Description("One chunk of users processed by a scheduled batch job")
+@StackTrace(false)
+public class SchedulerChunkEvent extends Event {
+
+    @Label("Job")
+    @Description("Job name, with #shard for sharded jobs")
+    public String job;
+
+    @Label("Run Key")
+    public String runKey;
+
+    @Label("First User ID")
+    public long firstUserId;
+
+    @Label("Last User ID")
+    public long lastUserId;
+
+    @Label("Users")
+    public int users;
+
+    @Label("Acted On")
+    public int actedOn;
+
+    @Label("Failed")
+    public int failed;
+}
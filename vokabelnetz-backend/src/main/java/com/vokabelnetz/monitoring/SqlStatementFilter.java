@@ -0,0 +1,141 @@
+package com.vokabelnetz.monitoring;
+
+import com.vokabelnetz.config.AppProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Counts SQL statements and JDBC time per HTTP request.
+ *
+ * Runs outermost, so statements of the security filters (e.g. loading the user's
+ * security state) count as well. Results are published per endpoint; requests over
+ * the statement threshold or repeating one statement are logged as likely N+1s.
+ * With {@code app.monitoring.sql-response-headers} the numbers are also sent as headers.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String JDBC_TIME_HEADER = "X-SQL-Time-Ms";
+
+    private final AppProperties.Monitoring config;
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatementFilter(AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.config = appProperties.getMonitoring();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(
+        @NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        try (SqlStatementTracker.Scope scope = SqlStatementTracker.start()) {
+            StatsHeaderResponse headerResponse = config.isSqlResponseHeaders()
+                ? new StatsHeaderResponse(response, scope.stats())
+                : null;
+            try {
+                filterChain.doFilter(request, headerResponse != null ? headerResponse : response);
+            } finally {
+                if (headerResponse != null) {
+                    // Responses without a body never asked for the output stream
+                    headerResponse.addStatsHeaders();
+                }
+                report(request, scope.stats());
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatementStats stats) {
+        String uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) instanceof String pattern
+            ? pattern
+            : "UNKNOWN";
+        long statements = stats.statements();
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+        DistributionSummary.builder("vokabelnetz.sql.request.statements")
+            .description("SQL statements executed per HTTP request")
+            .baseUnit("statements")
+            .tags(tags)
+            .register(meterRegistry)
+            .record(statements);
+        Timer.builder("vokabelnetz.sql.request.time")
+            .description("JDBC execution time per HTTP request")
+            .tags(tags)
+            .register(meterRegistry)
+            .record(stats.jdbcTime());
+
+        if (statements > config.getSqlStatementWarnThreshold()) {
+            log.warn("{} {} executed {} SQL statements ({} ms JDBC time)",
+                request.getMethod(), uri, statements, stats.jdbcTime().toMillis());
+        }
+        stats.mostRepeated()
+            .filter(entry -> entry.getValue() >= config.getSqlRepeatWarnThreshold())
+            .ifPresent(entry -> log.warn("Likely N+1 in {} {}: statement executed {} times: {}",
+                request.getMethod(), uri, entry.getValue(), entry.getKey()));
+    }
+
+    /**
+     * Adds the stats headers right before the body is written, i.e. before the response
+     * is committed and after the controller's statements have run (open-in-view is off).
+     */
+    private static final class StatsHeaderResponse extends HttpServletResponseWrapper {
+
+        private final SqlStatementStats stats;
+        private boolean headersAdded;
+
+        StatsHeaderResponse(HttpServletResponse response, SqlStatementStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addStatsHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addStatsHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addStatsHeaders();
+            super.flushBuffer();
+        }
+
+        void addStatsHeaders() {
+            if (headersAdded || isCommitted()) {
+                return;
+            }
+            headersAdded = true;
+            setHeader(STATEMENTS_HEADER, String.valueOf(stats.statements()));
+            setHeader(JDBC_TIME_HEADER, String.valueOf(stats.jdbcTime().toMillis()));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.vokabelnetz.monitoring;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statements executed and JDBC time spent by one unit of work (an HTTP request,
+ * a scheduled job or a test block). Thread-safe, so batch workers can report
+ * into their job's stats.
+ */
+public final class SqlStatementStats {
+
+    // Distinct SQL texts tracked for repeat detection; bounds memory for jobs with generated SQL
+    private static final int MAX_TRACKED_STATEMENTS = 256;
+
+    private final SqlStatementStats parent;
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder jdbcNanos = new LongAdder();
+    private final ConcurrentMap<String, LongAdder> executionsBySql = new ConcurrentHashMap<>();
+
+    SqlStatementStats(SqlStatementStats parent) {
+        this.parent = parent;
+    }
+
+    void record(String sql, long elapsedNanos) {
+        for (SqlStatementStats stats = this; stats != null; stats = stats.parent) {
+            stats.statements.increment();
+            stats.jdbcNanos.add(elapsedNanos);
+            if (sql != null) {
+                LongAdder executions = stats.executionsBySql.get(sql);
+                if (executions == null && stats.executionsBySql.size() < MAX_TRACKED_STATEMENTS) {
+                    executions = stats.executionsBySql.computeIfAbsent(sql, key -> new LongAdder());
+                }
+                if (executions != null) {
+                    executions.increment();
+                }
+            }
+        }
+    }
+
+    public long statements() {
+        return statements.sum();
+    }
+
+    public Duration jdbcTime() {
+        return Duration.ofNanos(jdbcNanos.sum());
+    }
+
+    /**
+     * The SQL executed most often and its execution count, the usual sign of an N+1.
+     */
+    public Optional<Map.Entry<String, Long>> mostRepeated() {
+        return executionsBySql.entrySet().stream()
+            .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+            .max(Comparator.comparingLong(Map.Entry::getValue));
+    }
+
+    /**
+     * Statement budget check for tests, e.g. {@code scope.stats().assertStatementCount(3)}.
+     *
+     * @throws AssertionError if more than {@code max} statements were executed
+     */
+    public void assertStatementCount(int max) {
+        long executed = statements();
+        if (executed > max) {
+            String repeated = mostRepeated()
+                .map(entry -> "; most repeated (" + entry.getValue() + "x): " + entry.getKey())
+                .orElse("");
+            throw new AssertionError("Expected at most " + max + " SQL statements but " + executed + " were executed" + repeated);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.vokabelnetz.monitoring;
+
+/**
+ * Thread-bound scopes that collect {@link SqlStatementStats}.
+ *
+ * Statements are reported by {@link StatementCountingDataSource} to the scope of
+ * the executing thread. Scopes nest: statements also count towards enclosing
+ * scopes, so a test can wrap a MockMvc call whose request opens its own scope.
+ *
+ * <pre>{@code
+ * try (SqlStatementTracker.Scope scope = SqlStatementTracker.start()) {
+ *     learningService.getNextWord(user, CefrLevel.A1);
+ *     scope.stats().assertStatementCount(3);
+ * }
+ * }</pre>
+ */
+public final class SqlStatementTracker {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementTracker() {
+    }
+
+    /**
+     * Start counting on this thread; closing the scope restores the enclosing one.
+     */
+    public static Scope start() {
+        return join(new SqlStatementStats(CURRENT.get()));
+    }
+
+    /**
+     * Count this thread's statements into existing stats, e.g. a worker of a scheduled job.
+     * A null {@code stats} suspends counting until the scope is closed.
+     */
+    public static Scope join(SqlStatementStats stats) {
+        Scope scope = new Scope(stats, CURRENT.get());
+        set(stats);
+        return scope;
+    }
+
+    /**
+     * Stats of this thread's innermost scope, or null if none is open.
+     */
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    private static void set(SqlStatementStats stats) {
+        if (stats != null) {
+            CURRENT.set(stats);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final SqlStatementStats stats;
+        private final SqlStatementStats previous;
+
+        private Scope(SqlStatementStats stats, SqlStatementStats previous) {
+            this.stats = stats;
+            this.previous = previous;
+        }
+
+        public SqlStatementStats stats() {
+            return stats;
+        }
+
+        @Override
+        public void close() {
+            set(previous);
+        }
+    }
+}
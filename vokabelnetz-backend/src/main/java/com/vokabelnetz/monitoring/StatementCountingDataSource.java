@@ -0,0 +1,100 @@
+package com.vokabelnetz.monitoring;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource wrapper that reports every statement execution and its JDBC time to
+ * the thread's {@link SqlStatementTracker} scope. Sits in front of the pool, so it
+ * sees Hibernate and JdbcTemplate statements alike.
+ *
+ * Only the execute call is timed, not reading the result set. A batch counts as one
+ * statement (one round trip). Without an open scope statements pass straight through.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    /**
+     * Closes the pool on shutdown; destroy-method inference sees this wrapper, not the pool.
+     */
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+            StatementCountingDataSource.class.getClassLoader(),
+            new Class<?>[] {ConnectionProxy.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "getTargetConnection" -> connection;
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> {
+                    Object result = invoke(connection, method, args);
+                    // createStatement(), prepareStatement(sql, ...), prepareCall(sql, ...)
+                    if (result instanceof Statement statement && method.getReturnType().isInterface()) {
+                        String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                        yield wrap(statement, method.getReturnType(), sql);
+                    }
+                    yield result;
+                }
+            });
+    }
+
+    private static Object wrap(Statement statement, Class<?> type, String preparedSql) {
+        return Proxy.newProxyInstance(
+            StatementCountingDataSource.class.getClassLoader(),
+            new Class<?>[] {type},
+            (proxy, method, args) -> {
+                SqlStatementStats stats = SqlStatementTracker.current();
+                if (stats == null || !method.getName().startsWith("execute")) {
+                    return switch (method.getName()) {
+                        case "equals" -> proxy == args[0];
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        default -> invoke(statement, method, args);
+                    };
+                }
+
+                long started = System.nanoTime();
+                try {
+                    return invoke(statement, method, args);
+                } finally {
+                    String sql = preparedSql != null ? preparedSql
+                        : args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                    stats.record(sql, System.nanoTime() - started);
+                }
+            });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
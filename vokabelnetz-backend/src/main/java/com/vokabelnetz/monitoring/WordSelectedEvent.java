@@ -0,0 +1,35 @@
+package com.vokabelnetz.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one Elo-based word selection; the event duration is the selection time.
+ */
+@Name("vokabelnetz.WordSelected")
+@Label("Word Selected")
+@Category({"Vokabelnetz", "Learning"})
+@Description("Elo matching of the next word among the candidates")
+@StackTrace(false)
+public class WordSelectedEvent extends Event {
+
+    @Label("User ID")
+    public long userId;
+
+    @Label("User Rating")
+    public int userRating;
+
+    @Label("Candidates")
+    public int candidateCount;
+
+    @Label("Window Size")
+    @Description("Candidates within the rating tolerance; 0 means the closest word was taken")
+    public int windowSize;
+
+    @Label("Selected Word ID")
+    public long selectedWordId;
+}
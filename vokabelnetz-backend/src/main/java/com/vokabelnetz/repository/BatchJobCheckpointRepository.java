@@ -0,0 +1,41 @@
+package com.vokabelnetz.repository;
+
+import com.vokabelnetz.entity.BatchJobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BatchJobCheckpointRepository extends JpaRepository<BatchJobCheckpoint, String> {
+
+    /**
+     * Record finished chunks. Chunks finish out of order, so the resume point
+     * only ever moves forward.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE batch_job_checkpoints
+        SET last_user_id = GREATEST(last_user_id, :lastUserId),
+            processed_users = processed_users + :processed,
+            failed_users = failed_users + :failed,
+            updated_at = NOW()
+        WHERE job_name = :jobName AND run_key = :runKey
+        """, nativeQuery = true)
+    int recordProgress(
+        @Param("jobName") String jobName,
+        @Param("runKey") String runKey,
+        @Param("lastUserId") long lastUserId,
+        @Param("processed") int processed,
+        @Param("failed") int failed
+    );
+
+    @Modifying
+    @Query(value = """
+        UPDATE batch_job_checkpoints
+        SET status = 'COMPLETED', completed_at = NOW(), updated_at = NOW()
+        WHERE job_name = :jobName AND run_key = :runKey
+        """, nativeQuery = true)
+    int markCompleted(@Param("jobName") String jobName, @Param("runKey") String runKey);
+}
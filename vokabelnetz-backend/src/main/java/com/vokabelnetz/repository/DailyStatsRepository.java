@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -56,14 +57,14 @@ public interface DailyStatsRepository extends JpaRepository<DailyStats, Long> {
      */
     @Query("""
         SELECT
-            COALESCE(SUM(ds.wordsReviewed), 0),
-            COALESCE(SUM(ds.wordsCorrect), 0),
-            COALESCE(SUM(ds.newWordsLearned), 0),
-            COALESCE(SUM(ds.totalTimeSeconds), 0)
+            COALESCE(SUM(ds.wordsReviewed), 0) AS wordsReviewed,
+            COALESCE(SUM(ds.wordsCorrect), 0) AS wordsCorrect,
+            COALESCE(SUM(ds.newWordsLearned), 0) AS newWordsLearned,
+            COALESCE(SUM(ds.totalTimeSeconds), 0) AS totalTimeSeconds
         FROM DailyStats ds
         WHERE ds.user.id = :userId
         """)
-    Object[] getTotalStats(@Param("userId") Long userId);
+    Totals getTotalStats(@Param("userId") Long userId);
 
     /**
      * Count active days for user.
@@ -80,4 +81,62 @@ public interface DailyStatsRepository extends JpaRepository<DailyStats, Long> {
      */
     @Query("DELETE FROM DailyStats ds WHERE ds.statDate < :before")
     int deleteOlderThan(@Param("before") LocalDate before);
+
+    /**
+     * Weekly report data for the given users who want it: profile fields plus totals
+     * of the last seven days up to the date of asOf in each user's timezone, in one grouped query.
+     * Timezones not in validTimezones (which must include defaultTimezone) fall back to the default.
+     */
+    @Query(value = """
+        SELECT u.id AS userId,
+               u.email AS email,
+               u.display_name AS displayName,
+               u.ui_language AS uiLanguage,
+               u.current_streak AS currentStreak,
+               CAST(COALESCE(SUM(ds.new_words_learned), 0) AS INTEGER) AS wordsLearned,
+               CAST(COALESCE(SUM(ds.words_reviewed), 0) AS INTEGER) AS wordsReviewed
+        FROM users u
+        JOIN user_preferences p ON p.user_id = u.id AND p.weekly_report = TRUE
+        CROSS JOIN LATERAL (
+            SELECT CAST(CAST(:asOf AS TIMESTAMP WITH TIME ZONE) AT TIME ZONE
+                CASE WHEN u.timezone IN (:validTimezones) THEN u.timezone ELSE :defaultTimezone END
+                AS DATE) AS today
+        ) local
+        LEFT JOIN daily_stats ds ON ds.user_id = u.id
+            AND ds.stat_date BETWEEN local.today - 7 AND local.today
+        WHERE u.id IN (:userIds)
+        GROUP BY u.id
+        """, nativeQuery = true)
+    List<WeeklyTotals> findWeeklyTotals(
+        @Param("userIds") List<Long> userIds,
+        @Param("asOf") Instant asOf,
+        @Param("validTimezones") List<String> validTimezones,
+        @Param("defaultTimezone") String defaultTimezone
+    );
+
+    interface Totals {
+        Long getWordsReviewed();
+
+        Long getWordsCorrect();
+
+        Long getNewWordsLearned();
+
+        Long getTotalTimeSeconds();
+    }
+
+    interface WeeklyTotals {
+        Long getUserId();
+
+        String getEmail();
+
+        String getDisplayName();
+
+        String getUiLanguage();
+
+        Integer getCurrentStreak();
+
+        Integer getWordsLearned();
+
+        Integer getWordsReviewed();
+    }
 }
@@ -0,0 +1,51 @@
+package com.vokabelnetz.repository;
+
+import com.vokabelnetz.entity.OutboxEmail;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<OutboxEmail, Long> {
+
+    /**
+     * Claim up to {@code limit} due emails, skipping rows other workers hold.
+     * The claim counts as an attempt and hides the rows until {@code leaseUntil}.
+     */
+    @Query(value = """
+        UPDATE email_outbox
+        SET attempts = attempts + 1, next_attempt_at = :leaseUntil
+        WHERE id IN (
+            SELECT id FROM email_outbox
+            WHERE status = 'PENDING' AND next_attempt_at <= NOW()
+            ORDER BY next_attempt_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+        )
+        RETURNING *
+        """, nativeQuery = true)
+    List<OutboxEmail> claimDue(@Param("limit") int limit, @Param("leaseUntil") Instant leaseUntil);
+
+    /**
+     * Finished rows keep no body; it may contain a password reset or verification link.
+     */
+    @Modifying
+    @Query("UPDATE OutboxEmail e SET e.status = 'SENT', e.sentAt = :sentAt, e.lastError = null, e.body = null WHERE e.id IN :ids")
+    int markSent(@Param("ids") List<Long> ids, @Param("sentAt") Instant sentAt);
+
+    @Modifying
+    @Query("UPDATE OutboxEmail e SET e.nextAttemptAt = :nextAttemptAt, e.lastError = :error WHERE e.id = :id")
+    int markRetry(@Param("id") Long id, @Param("nextAttemptAt") Instant nextAttemptAt, @Param("error") String error);
+
+    @Modifying
+    @Query("UPDATE OutboxEmail e SET e.status = 'FAILED', e.lastError = :error, e.body = null WHERE e.id = :id")
+    int markFailed(@Param("id") Long id, @Param("error") String error);
+
+    @Query("SELECT COUNT(e) FROM OutboxEmail e WHERE e.status = 'PENDING'")
+    long countPending();
+}
@@ -43,13 +43,6 @@ public interface EmailVerificationTokenRepository extends JpaRepository<EmailVer
         """)
     void invalidateAllByUserId(@Param("userId") Long userId, @Param("now") Instant now);
 
-    /**
-     * Delete expired tokens (for cleanup scheduler).
-     */
-    @Modifying
-    @Query("DELETE FROM EmailVerificationToken evt WHERE evt.expiresAt < :cutoffDate OR evt.usedAt IS NOT NULL")
-    int deleteExpiredTokens(@Param("cutoffDate") Instant cutoffDate);
-
     /**
      * Count pending verification tokens for user (for rate limiting).
      */
@@ -1,6 +1,7 @@
 package com.vokabelnetz.repository;
 
 import com.vokabelnetz.entity.RefreshToken;
+import com.vokabelnetz.security.ActiveSession;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -8,13 +9,70 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Optional<RefreshToken> findByToken(String token);
+    /**
+     * Token revoked by {@link #consumeActive}.
+     */
+    interface ConsumedRefreshToken {
+        Long getId();
+        Long getUserId();
+    }
+
+    Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
+
+    /**
+     * Atomically revoke an active token and return it, for rotation.
+     * Empty if the token is unknown, expired or already revoked.
+     */
+    @Query(value = """
+        UPDATE refresh_tokens
+        SET is_revoked = TRUE, revoked_at = :now, revoked_reason = :reason, updated_at = :updatedAt
+        WHERE token_hash = :tokenHash
+        AND is_revoked = FALSE
+        AND expires_at > :now
+        RETURNING id, user_id AS userId
+        """, nativeQuery = true)
+    Optional<ConsumedRefreshToken> consumeActive(
+        @Param("tokenHash") byte[] tokenHash,
+        @Param("now") Instant now,
+        @Param("updatedAt") LocalDateTime updatedAt,
+        @Param("reason") String reason
+    );
+
+    /**
+     * Active sessions for the session registry, newest first.
+     */
+    @Query("""
+        SELECT new com.vokabelnetz.security.ActiveSession(rt.id, rt.tokenHash, rt.expiresAt)
+        FROM RefreshToken rt
+        WHERE rt.user.id = :userId
+        AND rt.isRevoked = false
+        AND rt.expiresAt > :now
+        ORDER BY rt.createdAt DESC
+        """)
+    List<ActiveSession> findActiveSessions(@Param("userId") Long userId, @Param("now") Instant now);
+
+    /**
+     * Revoke the given tokens (session limit).
+     */
+    @Modifying
+    @Query("""
+        UPDATE RefreshToken rt
+        SET rt.isRevoked = true, rt.revokedAt = :now, rt.revokedReason = :reason
+        WHERE rt.id IN :ids AND rt.isRevoked = false
+        """)
+    int revokeAllByIds(
+        @Param("ids") Collection<Long> ids,
+        @Param("now") Instant now,
+        @Param("reason") String reason
+    );
 
     /**
      * Find active (non-revoked, non-expired) tokens for user.
@@ -69,18 +127,4 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
         AND rt.expiresAt > :now
         """)
     long countActiveByUserId(@Param("userId") Long userId, @Param("now") Instant now);
-
-    /**
-     * Delete expired tokens (for cleanup scheduler).
-     */
-    @Modifying
-    @Query("DELETE FROM RefreshToken rt WHERE rt.expiresAt < :cutoffDate")
-    int deleteExpiredTokens(@Param("cutoffDate") Instant cutoffDate);
-
-    /**
-     * Delete old revoked tokens (for cleanup scheduler).
-     */
-    @Modifying
-    @Query("DELETE FROM RefreshToken rt WHERE rt.isRevoked = true AND rt.revokedAt < :cutoffDate")
-    int deleteRevokedTokensOlderThan(@Param("cutoffDate") Instant cutoffDate);
 }
@@ -0,0 +1,17 @@
+package com.vokabelnetz.repository;
+
+import com.vokabelnetz.entity.SeedManifest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SeedManifestRepository extends JpaRepository<SeedManifest, String> {
+
+    /**
+     * Serialize seeding across replicas until the surrounding transaction ends.
+     * A replica that waited here sees the manifest written by the one before it.
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtext('seed_manifest'))", nativeQuery = true)
+    Integer lockSeeding();
+}
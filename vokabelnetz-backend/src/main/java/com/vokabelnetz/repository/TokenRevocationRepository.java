@@ -0,0 +1,41 @@
+package com.vokabelnetz.repository;
+
+import com.vokabelnetz.entity.TokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, Long> {
+
+    /**
+     * Bump the user's token generation and record the revocation in one statement.
+     * Returns the new generation, or null if the user does not exist.
+     */
+    @Query(value = """
+        WITH bumped AS (
+            UPDATE users SET token_generation = token_generation + 1
+            WHERE id = :userId
+            RETURNING id, token_generation
+        )
+        INSERT INTO token_revocations (user_id, min_generation)
+        SELECT id, token_generation FROM bumped
+        RETURNING min_generation
+        """, nativeQuery = true)
+    Integer revokeAndRecord(@Param("userId") Long userId);
+
+    /**
+     * Revocations since the given time (polled by every instance).
+     */
+    @Query("SELECT r FROM TokenRevocation r WHERE r.revokedAt > :since ORDER BY r.id")
+    List<TokenRevocation> findRevokedSince(@Param("since") Instant since);
+
+    @Modifying
+    @Query("DELETE FROM TokenRevocation r WHERE r.revokedAt < :before")
+    int deleteRevokedBefore(@Param("before") Instant before);
+}
@@ -1,7 +1,10 @@
 package com.vokabelnetz.repository;
 
 import com.vokabelnetz.entity.UserPreferences;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -9,6 +12,11 @@ import java.util.Optional;
 @Repository
 public interface UserPreferencesRepository extends JpaRepository<UserPreferences, Long> {
 
+    /**
+     * Find preferences by user. Cached, so scheduler loops resolve the ID
+     * from the query cache and the entity from the second-level cache.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<UserPreferences> findByUserId(Long userId);
 
     boolean existsByUserId(Long userId);
@@ -1,13 +1,15 @@
 package com.vokabelnetz.repository;
 
 import com.vokabelnetz.entity.User;
+import com.vokabelnetz.security.UserSecurityState;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +22,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByIdAndDeletedAtIsNull(Long id);
 
+    /**
+     * Load only what request authentication needs.
+     */
+    @Query("""
+        SELECT new com.vokabelnetz.security.UserSecurityState(u.isActive, u.role, u.tokenGeneration)
+        FROM User u
+        WHERE u.id = :userId
+        AND u.deletedAt IS NULL
+        """)
+    Optional<UserSecurityState> findSecurityStateById(@Param("userId") Long userId);
+
+
     /**
      * Find users whose local midnight is at the given UTC hour.
      * Used for streak processing scheduler.
@@ -45,14 +59,151 @@ public interface UserRepository extends JpaRepository<User, Long> {
     List<User> findUsersNeedingStreakReminder();
 
     /**
-     * Find all active users (not deleted).
+     * Next page of active user IDs after the given ID in one shard
+     * (keyset paging for batch jobs; shardCount 1 = all users).
      */
-    List<User> findByIsActiveTrueAndDeletedAtIsNull();
+    @Query("""
+        SELECT u.id FROM User u
+        WHERE u.isActive = true
+        AND u.deletedAt IS NULL
+        AND u.id > :afterId
+        AND MOD(u.id, :shardCount) = :shard
+        ORDER BY u.id
+        """)
+    List<Long> findActiveUserIdsAfter(
+        @Param("afterId") Long afterId,
+        @Param("shardCount") long shardCount,
+        @Param("shard") long shard,
+        Limit limit
+    );
+
+    /**
+     * Distinct timezones of active users (null = default timezone).
+     */
+    @Query(value = """
+        SELECT DISTINCT timezone FROM users
+        WHERE is_active = TRUE AND deleted_at IS NULL
+        """, nativeQuery = true)
+    List<String> findDistinctActiveTimezones();
+
+    /**
+     * Use a streak freeze for every user in the timezone who missed yesterday
+     * and has one available, and record it in streak_history.
+     * Users whose freeze already covers yesterday are skipped, so re-running is harmless.
+     *
+     * @return number of freezes used
+     */
+    @Modifying
+    @Query(value = """
+        WITH frozen AS (
+            UPDATE users u
+            SET streak_freezes_available = u.streak_freezes_available - 1,
+                streak_freeze_used_at = :yesterday,
+                updated_at = NOW()
+            WHERE (u.timezone = :timezone OR (u.timezone IS NULL AND :timezone = :defaultTimezone))
+            AND u.is_active = TRUE
+            AND u.deleted_at IS NULL
+            AND u.current_streak > 0
+            AND u.streak_freezes_available > 0
+            AND (u.streak_freeze_used_at IS NULL OR u.streak_freeze_used_at < :yesterday)
+            AND NOT EXISTS (
+                SELECT 1 FROM daily_stats ds
+                WHERE ds.user_id = u.id
+                AND ds.stat_date = :yesterday
+                AND (ds.words_reviewed > 0 OR ds.new_words_learned > 0)
+            )
+            RETURNING u.id, u.current_streak
+        )
+        INSERT INTO streak_history (user_id, streak_date, streak_count, was_active, freeze_used)
+        SELECT id, :yesterday, current_streak, FALSE, TRUE FROM frozen
+        """, nativeQuery = true)
+    int useStreakFreezes(
+        @Param("timezone") String timezone,
+        @Param("defaultTimezone") String defaultTimezone,
+        @Param("yesterday") LocalDate yesterday
+    );
 
     /**
-     * Permanently delete soft-deleted users older than cutoff date.
+     * Reset the streak of every user in the timezone who missed yesterday
+     * without a freeze covering it, and record it in streak_history.
+     * Run after {@link #useStreakFreezes}.
+     *
+     * @return number of streaks broken
      */
     @Modifying
-    @Query("DELETE FROM User u WHERE u.deletedAt IS NOT NULL AND u.deletedAt < :cutoffDate")
-    int deleteByDeletedAtBefore(@Param("cutoffDate") LocalDateTime cutoffDate);
+    @Query(value = """
+        WITH broken AS (
+            UPDATE users u
+            SET current_streak = 0,
+                updated_at = NOW()
+            WHERE (u.timezone = :timezone OR (u.timezone IS NULL AND :timezone = :defaultTimezone))
+            AND u.is_active = TRUE
+            AND u.deleted_at IS NULL
+            AND u.current_streak > 0
+            AND (u.streak_freeze_used_at IS NULL OR u.streak_freeze_used_at < :yesterday)
+            AND NOT EXISTS (
+                SELECT 1 FROM daily_stats ds
+                WHERE ds.user_id = u.id
+                AND ds.stat_date = :yesterday
+                AND (ds.words_reviewed > 0 OR ds.new_words_learned > 0)
+            )
+            RETURNING u.id
+        )
+        INSERT INTO streak_history (user_id, streak_date, streak_count, was_active, freeze_used)
+        SELECT id, :yesterday, 0, FALSE, FALSE FROM broken
+        """, nativeQuery = true)
+    int breakMissedStreaks(
+        @Param("timezone") String timezone,
+        @Param("defaultTimezone") String defaultTimezone,
+        @Param("yesterday") LocalDate yesterday
+    );
+
+    /**
+     * Reminder settings of every user who may need a streak reminder
+     * (used to build the reminder timer wheel).
+     */
+    @Query(value = """
+        SELECT u.id AS userId, p.reminder_time AS reminderTime, u.timezone AS timezone
+        FROM users u
+        JOIN user_preferences p ON p.user_id = u.id
+        WHERE u.is_active = TRUE
+        AND u.deleted_at IS NULL
+        AND u.current_streak > 0
+        AND p.streak_reminders = TRUE
+        """, nativeQuery = true)
+    List<ReminderSchedule> findReminderSchedules();
+
+    /**
+     * Of the given users, claim those who still want a reminder, have no activity on the
+     * given date and were not reminded for it yet. Claimed users are marked as reminded,
+     * so an overlapping run on another instance (or a caught-up slot) skips them.
+     */
+    @Query(value = """
+        UPDATE users u
+        SET last_streak_reminder_on = :date
+        FROM user_preferences p
+        WHERE p.user_id = u.id
+        AND u.id IN (:userIds)
+        AND u.is_active = TRUE
+        AND u.deleted_at IS NULL
+        AND u.current_streak > 0
+        AND p.streak_reminders = TRUE
+        AND (u.last_streak_reminder_on IS NULL OR u.last_streak_reminder_on < :date)
+        AND NOT EXISTS (
+            SELECT 1 FROM daily_stats ds
+            WHERE ds.user_id = u.id
+            AND ds.stat_date = :date
+            AND (ds.words_reviewed > 0 OR ds.new_words_learned > 0)
+        )
+        RETURNING u.id
+        """, nativeQuery = true)
+    List<Long> claimUsersToRemind(@Param("userIds") List<Long> userIds, @Param("date") LocalDate date);
+
+    interface ReminderSchedule {
+        Long getUserId();
+
+        String getReminderTime();
+
+        String getTimezone();
+    }
 }
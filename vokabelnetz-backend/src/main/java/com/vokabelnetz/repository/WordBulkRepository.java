@@ -0,0 +1,150 @@
+package com.vokabelnetz.repository;
+
+import com.vokabelnetz.entity.Word;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk word writes for data seeding.
+ *
+ * Each chunk is sent as one {@code INSERT ... SELECT FROM unnest(arrays)
+ * ON CONFLICT (german, cefr_level) DO UPDATE} statement, so a file of N words
+ * costs N / CHUNK_SIZE round-trips instead of 2N.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WordBulkRepository {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    /**
+     * Upsert words by (german, cefr_level).
+     * Existing rows only take non-null incoming values (like UPDATE mode always did),
+     * difficulty rating and stats are never overwritten. Rows whose content did not
+     * change are not touched and not returned.
+     */
+    private static final String UPSERT_SQL = """
+        INSERT INTO words (german, article, plural, translations, word_type, cefr_level, category,
+                           example_sentences, difficulty_rating, tags, source,
+                           is_active, times_shown, times_correct)
+        SELECT t.german, t.article, t.plural, t.translations::jsonb, t.word_type, t.cefr_level, t.category,
+               t.example_sentences::jsonb, t.difficulty_rating, t.tags::jsonb, t.source,
+               TRUE, 0, 0
+        FROM unnest(?::text[], ?::text[], ?::text[], ?::text[], ?::text[], ?::text[], ?::text[],
+                    ?::text[], ?::int[], ?::text[], ?::text[])
+            AS t(german, article, plural, translations, word_type, cefr_level, category,
+                 example_sentences, difficulty_rating, tags, source)
+        ON CONFLICT (german, cefr_level) DO UPDATE SET
+            article = COALESCE(EXCLUDED.article, words.article),
+            plural = COALESCE(EXCLUDED.plural, words.plural),
+            translations = COALESCE(EXCLUDED.translations, words.translations),
+            word_type = COALESCE(EXCLUDED.word_type, words.word_type),
+            category = COALESCE(EXCLUDED.category, words.category),
+            example_sentences = COALESCE(EXCLUDED.example_sentences, words.example_sentences),
+            tags = COALESCE(EXCLUDED.tags, words.tags),
+            source = COALESCE(EXCLUDED.source, words.source)
+        WHERE (EXCLUDED.article IS NOT NULL AND EXCLUDED.article IS DISTINCT FROM words.article)
+           OR (EXCLUDED.plural IS NOT NULL AND EXCLUDED.plural IS DISTINCT FROM words.plural)
+           OR (EXCLUDED.translations IS NOT NULL AND EXCLUDED.translations IS DISTINCT FROM words.translations)
+           OR (EXCLUDED.word_type IS NOT NULL AND EXCLUDED.word_type IS DISTINCT FROM words.word_type)
+           OR (EXCLUDED.category IS NOT NULL AND EXCLUDED.category IS DISTINCT FROM words.category)
+           OR (EXCLUDED.example_sentences IS NOT NULL
+               AND EXCLUDED.example_sentences IS DISTINCT FROM words.example_sentences)
+           OR (EXCLUDED.tags IS NOT NULL AND EXCLUDED.tags IS DISTINCT FROM words.tags)
+           OR (EXCLUDED.source IS NOT NULL AND EXCLUDED.source IS DISTINCT FROM words.source)
+        RETURNING id, (xmax = 0) AS inserted
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Outcome of a bulk upsert. Duplicates are input rows dropped in favour of a later
+     * row with the same german + level; the other counts add up to the distinct words.
+     */
+    public record UpsertResult(int inserted, int updated, int unchanged, int duplicates, List<Long> changedIds) {}
+
+    /**
+     * Upsert all words in chunks. Duplicates (same german + level) keep the last occurrence.
+     */
+    public UpsertResult upsertAll(List<Word> words) {
+        Map<String, Word> unique = new LinkedHashMap<>();
+        for (Word word : words) {
+            unique.put(word.getGerman() + '\u0000' + word.getCefrLevel(), word);
+        }
+        List<Word> deduplicated = new ArrayList<>(unique.values());
+
+        int inserted = 0;
+        int updated = 0;
+        List<Long> changedIds = new ArrayList<>();
+
+        for (int from = 0; from < deduplicated.size(); from += CHUNK_SIZE) {
+            List<Word> chunk = deduplicated.subList(from, Math.min(from + CHUNK_SIZE, deduplicated.size()));
+            List<UpsertedRow> rows = upsertChunk(chunk);
+            for (UpsertedRow row : rows) {
+                changedIds.add(row.id());
+                if (row.inserted()) {
+                    inserted++;
+                } else {
+                    updated++;
+                }
+            }
+        }
+
+        return new UpsertResult(inserted, updated, deduplicated.size() - inserted - updated,
+            words.size() - deduplicated.size(), changedIds);
+    }
+
+    private List<UpsertedRow> upsertChunk(List<Word> chunk) {
+        int n = chunk.size();
+        String[] german = new String[n];
+        String[] article = new String[n];
+        String[] plural = new String[n];
+        String[] translations = new String[n];
+        String[] wordType = new String[n];
+        String[] cefrLevel = new String[n];
+        String[] category = new String[n];
+        String[] exampleSentences = new String[n];
+        Integer[] difficulty = new Integer[n];
+        String[] tags = new String[n];
+        String[] source = new String[n];
+
+        for (int i = 0; i < n; i++) {
+            Word w = chunk.get(i);
+            german[i] = w.getGerman();
+            article[i] = w.getArticle();
+            plural[i] = w.getPlural();
+            translations[i] = w.getTranslations();
+            wordType[i] = w.getWordType() != null ? w.getWordType().name() : null;
+            cefrLevel[i] = w.getCefrLevel().name();
+            category[i] = w.getCategory() != null ? w.getCategory().name() : null;
+            exampleSentences[i] = w.getExampleSentences();
+            difficulty[i] = w.getDifficultyRating() != null ? w.getDifficultyRating() : 1000;
+            tags[i] = w.getTags();
+            source[i] = w.getSource();
+        }
+
+        return jdbcTemplate.query(UPSERT_SQL, ps -> {
+            Connection con = ps.getConnection();
+            ps.setArray(1, con.createArrayOf("text", german));
+            ps.setArray(2, con.createArrayOf("text", article));
+            ps.setArray(3, con.createArrayOf("text", plural));
+            ps.setArray(4, con.createArrayOf("text", translations));
+            ps.setArray(5, con.createArrayOf("text", wordType));
+            ps.setArray(6, con.createArrayOf("text", cefrLevel));
+            ps.setArray(7, con.createArrayOf("text", category));
+            ps.setArray(8, con.createArrayOf("text", exampleSentences));
+            ps.setArray(9, con.createArrayOf("int4", difficulty));
+            ps.setArray(10, con.createArrayOf("text", tags));
+            ps.setArray(11, con.createArrayOf("text", source));
+        }, (rs, rowNum) -> new UpsertedRow(rs.getLong("id"), rs.getBoolean("inserted")));
+    }
+
+    private record UpsertedRow(long id, boolean inserted) {}
+}
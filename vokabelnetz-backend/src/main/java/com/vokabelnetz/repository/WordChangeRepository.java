@@ -0,0 +1,52 @@
+package com.vokabelnetz.repository;
+
+import com.vokabelnetz.entity.WordChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface WordChangeRepository extends JpaRepository<WordChange, Long> {
+
+    /**
+     * Serialize catalog version bumps until the surrounding transaction ends,
+     * so versions become visible to readers in the order they were issued.
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtext('catalog_version'))", nativeQuery = true)
+    Integer lockCatalogVersion();
+
+    /**
+     * Allocate the next catalog version.
+     */
+    @Query(value = "SELECT nextval('catalog_version_seq')", nativeQuery = true)
+    long nextCatalogVersion();
+
+    /**
+     * Get the latest committed catalog version (0 if nothing changed yet).
+     */
+    @Query("SELECT COALESCE(MAX(wc.catalogVersion), 0) FROM WordChange wc")
+    long findCurrentVersion();
+
+    /**
+     * Get IDs of words changed in (since, until].
+     */
+    @Query("""
+        SELECT DISTINCT wc.wordId FROM WordChange wc
+        WHERE wc.catalogVersion > :since
+        AND wc.catalogVersion <= :until
+        """)
+    List<Long> findChangedWordIds(@Param("since") long since, @Param("until") long until);
+
+    /**
+     * Count words changed in (since, until].
+     */
+    @Query("""
+        SELECT COUNT(DISTINCT wc.wordId) FROM WordChange wc
+        WHERE wc.catalogVersion > :since
+        AND wc.catalogVersion <= :until
+        """)
+    long countChangedWordIds(@Param("since") long since, @Param("until") long until);
+}
@@ -3,10 +3,13 @@ package com.vokabelnetz.repository;
 import com.vokabelnetz.entity.Word;
 import com.vokabelnetz.entity.enums.CefrLevel;
 import com.vokabelnetz.entity.enums.WordCategory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -71,13 +74,15 @@ public interface WordRepository extends JpaRepository<Word, Long> {
     );
 
     /**
-     * Count words by CEFR level (active).
+     * Count words by CEFR level (active). Served from the query cache.
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     long countByCefrLevelAndIsActiveTrue(CefrLevel cefrLevel);
 
     /**
-     * Count all words by CEFR level.
+     * Count all words by CEFR level. Served from the query cache.
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     long countByCefrLevel(CefrLevel cefrLevel);
 
     /**
@@ -1,32 +1,61 @@
 package com.vokabelnetz.scheduler;
 
-import com.vokabelnetz.repository.EmailVerificationTokenRepository;
-import com.vokabelnetz.repository.PasswordResetTokenRepository;
-import com.vokabelnetz.repository.RefreshTokenRepository;
-import com.vokabelnetz.repository.UserRepository;
+import com.vokabelnetz.config.AppProperties;
+import com.vokabelnetz.config.MailProperties;
+import com.vokabelnetz.service.EmailTemplateRenderer.Template;
+import com.vokabelnetz.service.SecondLevelCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 /**
  * Scheduled tasks for data retention and cleanup.
  * Based on SECURITY.md and GDPR requirements.
+ *
+ * Each job runs on one instance only (advisory lock) and deletes in bounded,
+ * separately committed batches through RetentionDeleter instead of one large DELETE.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class DataRetentionScheduler {
 
-    private final UserRepository userRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
-    private final PasswordResetTokenRepository passwordResetTokenRepository;
-    private final EmailVerificationTokenRepository emailVerificationTokenRepository;
+    // Every table referencing users(id); purged before the user rows so no large cascade runs
+    private static final List<String> USER_CHILD_TABLES = List.of(
+        "user_word_progress",
+        "daily_stats",
+        "streak_history",
+        "learning_sessions",
+        "refresh_tokens",
+        "password_reset_tokens",
+        "email_verification_tokens",
+        "password_history",
+        "token_revocations",
+        "user_preferences"
+    );
+
+    // Outbox categories whose emails carried account tokens
+    private static final List<String> TOKEN_EMAIL_CATEGORIES = List.of(
+        Template.PASSWORD_RESET.name(),
+        Template.EMAIL_VERIFICATION.name()
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final RetentionDeleter retentionDeleter;
+    private final SecondLevelCacheService cacheService;
+    private final AppProperties appProperties;
+    private final MailProperties mailProperties;
+    private final SchedulerLock schedulerLock;
 
     /**
      * Permanently delete soft-deleted users after 30 days.
@@ -34,14 +63,56 @@ public class DataRetentionScheduler {
      * Runs daily at 03:00.
      */
     @Scheduled(cron = "0 0 3 * * *") // 03:00 every day
-    @Transactional
     public void permanentlyDeleteExpiredUsers() {
-        log.info("Starting expired user deletion job...");
-
-        LocalDateTime cutoffDate = LocalDateTime.now().minus(30, ChronoUnit.DAYS);
-        int deleted = userRepository.deleteByDeletedAtBefore(cutoffDate);
-
-        log.info("Permanently deleted {} users (soft-deleted more than 30 days ago)", deleted);
+        schedulerLock.runExclusively("retention-users", () -> {
+            log.info("Starting expired user deletion job...");
+
+            RetentionDeleter.Run run = retentionDeleter.start("users");
+            LocalDateTime cutoffDate = utcTimestamp(Instant.now().minus(30, ChronoUnit.DAYS));
+            long deleted = 0;
+
+            while (!run.isExpired()) {
+                List<Long> userIds = jdbcTemplate.queryForList("""
+                    SELECT id FROM users
+                    WHERE deleted_at IS NOT NULL AND deleted_at < :cutoffDate
+                    ORDER BY id
+                    LIMIT :limit
+                    """,
+                    new MapSqlParameterSource("cutoffDate", cutoffDate)
+                        .addValue("limit", appProperties.getRetention().getUserBatchSize()),
+                    Long.class);
+                if (userIds.isEmpty()) {
+                    break;
+                }
+
+                for (String table : USER_CHILD_TABLES) {
+                    run.deleteAll(table, """
+                        DELETE FROM %s WHERE id IN (
+                            SELECT id FROM %s WHERE user_id IN (:userIds) LIMIT :limit
+                        )
+                        """.formatted(table, table), new MapSqlParameterSource("userIds", userIds));
+                }
+                if (run.isExpired()) {
+                    // Children may be incomplete; the users stay soft-deleted and are finished next run
+                    break;
+                }
+
+                deleted += run.deleteAll("users", """
+                    DELETE FROM users WHERE id IN (
+                        SELECT id FROM users
+                        WHERE id IN (:userIds) AND deleted_at IS NOT NULL AND deleted_at < :cutoffDate
+                        LIMIT :limit
+                    )
+                    """, new MapSqlParameterSource("userIds", userIds).addValue("cutoffDate", cutoffDate));
+            }
+
+            if (deleted > 0) {
+                // Preferences were deleted with plain SQL, which Hibernate doesn't see
+                cacheService.evictAllPreferences();
+            }
+            run.finish();
+            log.info("Permanently deleted {} users (soft-deleted more than 30 days ago)", deleted);
+        });
     }
 
     /**
@@ -49,14 +120,17 @@ public class DataRetentionScheduler {
      * Runs daily at 04:00.
      */
     @Scheduled(cron = "0 0 4 * * *") // 04:00 every day
-    @Transactional
     public void cleanupExpiredRefreshTokens() {
-        log.info("Starting refresh token cleanup job...");
-
-        Instant cutoffDate = Instant.now().minus(7, ChronoUnit.DAYS);
-        int deleted = refreshTokenRepository.deleteExpiredTokens(cutoffDate);
-
-        log.info("Deleted {} expired refresh tokens", deleted);
+        schedulerLock.runExclusively("retention-refresh-tokens", () -> {
+            log.info("Starting refresh token cleanup job...");
+
+            LocalDateTime cutoffDate = utcTimestamp(Instant.now().minus(7, ChronoUnit.DAYS));
+            deleteInBatches("refresh-tokens", "refresh_tokens", """
+                DELETE FROM refresh_tokens WHERE id IN (
+                    SELECT id FROM refresh_tokens WHERE expires_at < :cutoffDate LIMIT :limit
+                )
+                """, new MapSqlParameterSource("cutoffDate", cutoffDate));
+        });
     }
 
     /**
@@ -64,14 +138,19 @@ public class DataRetentionScheduler {
      * Runs daily at 04:30.
      */
     @Scheduled(cron = "0 30 4 * * *") // 04:30 every day
-    @Transactional
     public void cleanupPasswordResetTokens() {
-        log.info("Starting password reset token cleanup job...");
-
-        Instant cutoffDate = Instant.now().minus(24, ChronoUnit.HOURS);
-        int deleted = passwordResetTokenRepository.deleteExpiredTokens(cutoffDate);
-
-        log.info("Deleted {} expired password reset tokens", deleted);
+        schedulerLock.runExclusively("retention-password-reset-tokens", () -> {
+            log.info("Starting password reset token cleanup job...");
+
+            LocalDateTime cutoffDate = utcTimestamp(Instant.now().minus(24, ChronoUnit.HOURS));
+            deleteInBatches("password-reset-tokens", "password_reset_tokens", """
+                DELETE FROM password_reset_tokens WHERE id IN (
+                    SELECT id FROM password_reset_tokens
+                    WHERE expires_at < :cutoffDate OR used_at IS NOT NULL
+                    LIMIT :limit
+                )
+                """, new MapSqlParameterSource("cutoffDate", cutoffDate));
+        });
     }
 
     /**
@@ -79,14 +158,19 @@ public class DataRetentionScheduler {
      * Runs daily at 04:45.
      */
     @Scheduled(cron = "0 45 4 * * *") // 04:45 every day
-    @Transactional
     public void cleanupEmailVerificationTokens() {
-        log.info("Starting email verification token cleanup job...");
-
-        Instant cutoffDate = Instant.now().minus(7, ChronoUnit.DAYS);
-        int deleted = emailVerificationTokenRepository.deleteExpiredTokens(cutoffDate);
-
-        log.info("Deleted {} expired email verification tokens", deleted);
+        schedulerLock.runExclusively("retention-email-verification-tokens", () -> {
+            log.info("Starting email verification token cleanup job...");
+
+            LocalDateTime cutoffDate = utcTimestamp(Instant.now().minus(7, ChronoUnit.DAYS));
+            deleteInBatches("email-verification-tokens", "email_verification_tokens", """
+                DELETE FROM email_verification_tokens WHERE id IN (
+                    SELECT id FROM email_verification_tokens
+                    WHERE expires_at < :cutoffDate OR used_at IS NOT NULL
+                    LIMIT :limit
+                )
+                """, new MapSqlParameterSource("cutoffDate", cutoffDate));
+        });
     }
 
     /**
@@ -95,13 +179,54 @@ public class DataRetentionScheduler {
      * Runs weekly on Sunday at 05:00.
      */
     @Scheduled(cron = "0 0 5 * * SUN") // 05:00 every Sunday
-    @Transactional
     public void cleanupOldRevokedTokens() {
-        log.info("Starting old revoked token cleanup job...");
+        schedulerLock.runExclusively("retention-revoked-tokens", () -> {
+            log.info("Starting old revoked token cleanup job...");
+
+            LocalDateTime cutoffDate = utcTimestamp(Instant.now().minus(30, ChronoUnit.DAYS));
+            deleteInBatches("revoked-tokens", "refresh_tokens", """
+                DELETE FROM refresh_tokens WHERE id IN (
+                    SELECT id FROM refresh_tokens
+                    WHERE is_revoked = TRUE AND revoked_at < :cutoffDate
+                    LIMIT :limit
+                )
+                """, new MapSqlParameterSource("cutoffDate", cutoffDate));
+        });
+    }
+
+    /**
+     * Clean up sent and permanently failed outbox emails.
+     * Rows of account token emails are not kept for the retention period.
+     * Runs daily at 04:15.
+     */
+    @Scheduled(cron = "0 15 4 * * *") // 04:15 every day
+    public void cleanupEmailOutbox() {
+        schedulerLock.runExclusively("retention-email-outbox", () -> {
+            log.info("Starting email outbox cleanup job...");
+
+            Instant cutoff = Instant.now().minus(mailProperties.getOutbox().getRetentionDays(), ChronoUnit.DAYS);
+            deleteInBatches("email-outbox", "email_outbox", """
+                DELETE FROM email_outbox WHERE id IN (
+                    SELECT id FROM email_outbox
+                    WHERE status <> 'PENDING'
+                    AND (created_at < :cutoffDate OR category IN (:tokenCategories))
+                    LIMIT :limit
+                )
+                """, new MapSqlParameterSource("cutoffDate", OffsetDateTime.ofInstant(cutoff, ZoneOffset.UTC))
+                .addValue("tokenCategories", TOKEN_EMAIL_CATEGORIES));
+        });
+    }
 
-        Instant cutoffDate = Instant.now().minus(30, ChronoUnit.DAYS);
-        int deleted = refreshTokenRepository.deleteRevokedTokensOlderThan(cutoffDate);
+    private void deleteInBatches(String job, String table, String sql, MapSqlParameterSource params) {
+        RetentionDeleter.Run run = retentionDeleter.start(job);
+        run.deleteAll(table, sql, params);
+        run.finish();
+    }
 
-        log.info("Deleted {} old revoked refresh tokens", deleted);
+    /**
+     * TIMESTAMP columns hold UTC wall-clock time (hibernate.jdbc.time_zone: UTC).
+     */
+    private static LocalDateTime utcTimestamp(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
     }
 }
@@ -0,0 +1,185 @@
+package com.vokabelnetz.scheduler;
+
+import com.vokabelnetz.config.MailProperties;
+import com.vokabelnetz.entity.OutboxEmail;
+import com.vokabelnetz.repository.EmailOutboxRepository;
+import com.vokabelnetz.service.EmailService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailParseException;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers emails from the outbox.
+ *
+ * Each round claims a batch of due emails (FOR UPDATE SKIP LOCKED, so instances
+ * never claim the same row) and splits it into slices of
+ * {@code app.mail.outbox.messages-per-connection}. Each slice is sent over one SMTP
+ * connection, so the STARTTLS/AUTH handshake is paid once per slice; at most
+ * {@code app.mail.outbox.workers} connections are open at a time. Failed sends are
+ * retried with exponential backoff until {@code max-attempts} is reached.
+ */
+@Component
+@Slf4j
+public class EmailOutboxWorker {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final EmailOutboxRepository outboxRepository;
+    private final EmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+    private final MailProperties.Outbox config;
+    private final MeterRegistry meterRegistry;
+    private final Timer sendTimer;
+    private final AtomicLong pending = new AtomicLong();
+
+    public EmailOutboxWorker(
+        EmailOutboxRepository outboxRepository,
+        EmailService emailService,
+        TransactionTemplate transactionTemplate,
+        MailProperties mailProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.emailService = emailService;
+        this.transactionTemplate = transactionTemplate;
+        this.config = mailProperties.getOutbox();
+        this.meterRegistry = meterRegistry;
+        this.sendTimer = Timer.builder("vokabelnetz.email.send")
+            .description("SMTP send time per connection (one slice of emails)")
+            .register(meterRegistry);
+        Gauge.builder("vokabelnetz.email.outbox.pending", pending, AtomicLong::get)
+            .description("Emails waiting in the outbox")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Drain due emails; keeps claiming while full batches come back.
+     */
+    @Scheduled(fixedDelay = 2_000)
+    public void deliverDueEmails() {
+        int claimed;
+        do {
+            List<OutboxEmail> batch = transactionTemplate.execute(status -> outboxRepository.claimDue(
+                config.getBatchSize(), Instant.now().plusSeconds(config.getLeaseSeconds())));
+            claimed = batch.size();
+            if (claimed > 0) {
+                deliver(batch);
+            }
+        } while (claimed == config.getBatchSize() && !Thread.currentThread().isInterrupted());
+    }
+
+    /**
+     * Refresh the queue depth gauge (one count instead of a query per scrape).
+     */
+    @Scheduled(fixedDelay = 15_000)
+    public void refreshPendingGauge() {
+        pending.set(outboxRepository.countPending());
+    }
+
+    private void deliver(List<OutboxEmail> batch) {
+        List<Long> sent = Collections.synchronizedList(new ArrayList<>());
+        Semaphore connections = new Semaphore(Math.max(1, config.getWorkers()));
+        int perConnection = Math.max(1, config.getMessagesPerConnection());
+
+        // Each slice goes out over its own SMTP connection, which is closed (recycled) afterwards
+        try (ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int from = 0; from < batch.size(); from += perConnection) {
+                List<OutboxEmail> slice = batch.subList(from, Math.min(from + perConnection, batch.size()));
+                connections.acquireUninterruptibly();
+                senders.submit(() -> {
+                    try {
+                        sendSlice(slice, sent);
+                    } finally {
+                        connections.release();
+                    }
+                });
+            }
+        }
+
+        if (!sent.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.markSent(sent, Instant.now()));
+        }
+    }
+
+    private void sendSlice(List<OutboxEmail> slice, List<Long> sent) {
+        Map<Long, Exception> failures;
+        try {
+            failures = sendTimer.recordCallable(() -> emailService.deliverAll(slice));
+        } catch (Exception e) {
+            failures = new HashMap<>();
+            for (OutboxEmail email : slice) {
+                failures.put(email.getId(), e);
+            }
+        }
+
+        for (OutboxEmail email : slice) {
+            Exception failure = failures.get(email.getId());
+            if (failure == null) {
+                sent.add(email.getId());
+                counter("vokabelnetz.email.sent", email, null).increment();
+            } else {
+                recordFailure(email, failure);
+            }
+        }
+    }
+
+    private void recordFailure(OutboxEmail email, Exception e) {
+        String error = truncate(e.getClass().getSimpleName() + ": " + e.getMessage());
+        // Malformed messages fail the same way every time
+        boolean permanent = e instanceof MailParseException || e instanceof MailPreparationException;
+
+        if (permanent || email.getAttempts() >= config.getMaxAttempts()) {
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.markFailed(email.getId(), error));
+            counter("vokabelnetz.email.failed", email, "dead").increment();
+            log.error("Giving up on email {} ({}) after {} attempts: {}",
+                email.getId(), email.getCategory(), email.getAttempts(), error);
+            return;
+        }
+
+        Instant nextAttempt = Instant.now().plusSeconds(backoffSeconds(email.getAttempts()));
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.markRetry(email.getId(), nextAttempt, error));
+        counter("vokabelnetz.email.failed", email, "retry").increment();
+        log.warn("Email {} ({}) failed on attempt {}, retrying at {}: {}",
+            email.getId(), email.getCategory(), email.getAttempts(), nextAttempt, error);
+    }
+
+    /**
+     * Exponential backoff with up to 20% jitter so retries of one outage spread out.
+     */
+    private long backoffSeconds(int attempts) {
+        long delay = (long) config.getInitialBackoffSeconds() << Math.min(attempts - 1, 20);
+        delay = Math.min(delay, config.getMaxBackoffSeconds());
+        return delay + ThreadLocalRandom.current().nextLong(delay / 5 + 1);
+    }
+
+    private Counter counter(String name, OutboxEmail email, String outcome) {
+        Counter.Builder builder = Counter.builder(name).tag("category", email.getCategory());
+        if (outcome != null) {
+            builder.tag("outcome", outcome);
+        }
+        return builder.register(meterRegistry);
+    }
+
+    private String truncate(String error) {
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,122 @@
+package com.vokabelnetz.scheduler;
+
+import com.vokabelnetz.repository.UserRepository.ReminderSchedule;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Timer wheel with one slot per UTC minute of the day.
+ *
+ * Each user is hashed into the slot of their local reminder time converted to UTC
+ * for the day the wheel was built. Slots are flat arrays filled with a counting
+ * sort, so a wheel of a million users is two arrays and no per-user objects.
+ * The wheel is immutable; DST shifts and preference changes are picked up by
+ * building a new one.
+ */
+@Slf4j
+final class ReminderWheel {
+
+    static final int SLOTS = 24 * 60;
+
+    // Users of slot s are userIds[slotStart[s]] .. userIds[slotStart[s + 1] - 1]
+    private final int[] slotStart;
+    private final long[] userIds;
+    private final ZoneId[] zones;
+    private final Instant builtAt;
+
+    private ReminderWheel(int[] slotStart, long[] userIds, ZoneId[] zones, Instant builtAt) {
+        this.slotStart = slotStart;
+        this.userIds = userIds;
+        this.zones = zones;
+        this.builtAt = builtAt;
+    }
+
+    static ReminderWheel build(List<ReminderSchedule> schedules, ZoneId defaultZone, LocalTime defaultTime, Instant now) {
+        int count = schedules.size();
+        int[] slotOf = new int[count];
+        ZoneId[] zoneOf = new ZoneId[count];
+        int[] slotStart = new int[SLOTS + 1];
+
+        for (int i = 0; i < count; i++) {
+            ReminderSchedule schedule = schedules.get(i);
+            ZoneId zone = parseZone(schedule.getTimezone(), defaultZone);
+            LocalTime time = parseTime(schedule.getReminderTime(), defaultTime);
+            ZonedDateTime reminder = ZonedDateTime.of(LocalDate.ofInstant(now, zone), time, zone)
+                .withZoneSameInstant(ZoneOffset.UTC);
+
+            zoneOf[i] = zone;
+            slotOf[i] = reminder.getHour() * 60 + reminder.getMinute();
+            slotStart[slotOf[i] + 1]++;
+        }
+        for (int s = 0; s < SLOTS; s++) {
+            slotStart[s + 1] += slotStart[s];
+        }
+
+        long[] userIds = new long[count];
+        ZoneId[] zones = new ZoneId[count];
+        int[] next = slotStart.clone();
+        for (int i = 0; i < count; i++) {
+            int position = next[slotOf[i]]++;
+            userIds[position] = schedules.get(i).getUserId();
+            zones[position] = zoneOf[i];
+        }
+        return new ReminderWheel(slotStart, userIds, zones, now);
+    }
+
+    static int slotOf(Instant instant) {
+        return (int) (instant.getEpochSecond() / 60 % SLOTS);
+    }
+
+    int size() {
+        return userIds.length;
+    }
+
+    Instant builtAt() {
+        return builtAt;
+    }
+
+    /**
+     * Visit the users of one slot.
+     */
+    void forEachInSlot(int slot, SlotVisitor visitor) {
+        for (int i = slotStart[slot]; i < slotStart[slot + 1]; i++) {
+            visitor.visit(userIds[i], zones[i]);
+        }
+    }
+
+    @FunctionalInterface
+    interface SlotVisitor {
+        void visit(long userId, ZoneId zone);
+    }
+
+    private static ZoneId parseZone(String timezone, ZoneId defaultZone) {
+        if (timezone == null) {
+            return defaultZone;
+        }
+        try {
+            return ZoneId.of(timezone);
+        } catch (DateTimeException e) {
+            log.debug("Invalid timezone '{}', using {}", timezone, defaultZone);
+            return defaultZone;
+        }
+    }
+
+    private static LocalTime parseTime(String reminderTime, LocalTime defaultTime) {
+        if (reminderTime == null || reminderTime.isBlank()) {
+            return defaultTime;
+        }
+        try {
+            return LocalTime.parse(reminderTime);
+        } catch (DateTimeException e) {
+            return defaultTime;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.vokabelnetz.scheduler;
+
+import com.vokabelnetz.config.AppProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deletes rows in bounded batches for the retention jobs.
+ *
+ * Each batch is one short auto-committed {@code DELETE ... WHERE id IN (SELECT ... LIMIT :limit)},
+ * so locks and WAL per transaction stay small. The batch size adapts to keep each batch
+ * near {@code app.retention.batch-target-millis}, batches are separated by a short pause,
+ * and a run stops at {@code max-run-minutes} (the next run continues).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RetentionDeleter {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final AppProperties appProperties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Start a deletion run for one job; not thread-safe.
+     */
+    public Run start(String job) {
+        return new Run(job);
+    }
+
+    public final class Run {
+
+        private final String job;
+        private final AppProperties.Retention config = appProperties.getRetention();
+        private final long startedNanos = System.nanoTime();
+        private final long deadlineNanos = startedNanos + config.getMaxRunMinutes() * 60_000_000_000L;
+        private final Map<String, Long> deletedByTable = new LinkedHashMap<>();
+        private int batchSize = config.getBatchSize();
+
+        private Run(String job) {
+            this.job = job;
+        }
+
+        public boolean isExpired() {
+            return System.nanoTime() - deadlineNanos > 0;
+        }
+
+        /**
+         * Repeat the statement until it deletes fewer rows than the limit or the run expires.
+         * The statement must select its IDs with {@code LIMIT :limit}.
+         *
+         * @return rows deleted
+         */
+        public long deleteAll(String table, String sql, MapSqlParameterSource params) {
+            Timer batchTimer = Timer.builder("vokabelnetz.retention.batch")
+                .description("Duration of one retention delete batch")
+                .tags("job", job, "table", table)
+                .register(meterRegistry);
+            Counter deletedCounter = Counter.builder("vokabelnetz.retention.deleted")
+                .description("Rows deleted by retention jobs")
+                .tags("job", job, "table", table)
+                .register(meterRegistry);
+
+            long total = 0;
+            while (!isExpired()) {
+                int limit = batchSize;
+                long started = System.nanoTime();
+                int deleted = jdbcTemplate.update(sql, params.addValue("limit", limit));
+                long elapsedNanos = System.nanoTime() - started;
+
+                batchTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+                deletedCounter.increment(deleted);
+                total += deleted;
+                adapt(elapsedNanos / 1_000_000);
+
+                if (deleted < limit) {
+                    break;
+                }
+                pause();
+            }
+            deletedByTable.merge(table, total, Long::sum);
+            return total;
+        }
+
+        /**
+         * Log what the run deleted and at which rate.
+         */
+        public void finish() {
+            double seconds = Math.max((System.nanoTime() - startedNanos) / 1e9, 0.001);
+            long total = deletedByTable.values().stream().mapToLong(Long::longValue).sum();
+            log.info("Retention job {} deleted {} rows in {} s ({} rows/s){}: {}",
+                job, total, String.format("%.1f", seconds), Math.round(total / seconds),
+                isExpired() ? ", stopped at time limit" : "", deletedByTable);
+        }
+
+        // Shrink quickly when a batch is slow (locks held too long), grow slowly when fast
+        private void adapt(long elapsedMillis) {
+            long target = config.getBatchTargetMillis();
+            if (elapsedMillis > target) {
+                batchSize = Math.max(config.getMinBatchSize(), batchSize / 2);
+            } else if (elapsedMillis < target / 2) {
+                batchSize = Math.min(config.getMaxBatchSize(), batchSize + batchSize / 4);
+            }
+        }
+
+        private void pause() {
+            if (config.getPauseMillis() <= 0) {
+                return;
+            }
+            try {
+                Thread.sleep(config.getPauseMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Retention job " + job + " interrupted", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.vokabelnetz.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Cluster-wide mutual exclusion for scheduled jobs via Postgres advisory locks.
+ *
+ * Every replica fires the same cron triggers; only the instance that gets the
+ * lock runs the job, the others skip it. Locks are released by Postgres if the
+ * holder dies, so a crashed instance never blocks a job.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SchedulerLock {
+
+    private static final String PREFIX = "scheduler:";
+
+    private final DataSource dataSource;
+
+    /**
+     * Run the task unless another instance holds the lock.
+     * The lock is held on a dedicated connection while the task runs.
+     *
+     * @return the task's result, or empty if the lock was held elsewhere
+     */
+    public <T> Optional<T> callExclusively(String name, Supplier<T> task) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!advisoryLock(connection, "SELECT pg_try_advisory_lock(hashtext(?))", name)) {
+                log.debug("Job lock {} held by another instance, skipping", name);
+                return Optional.empty();
+            }
+            try {
+                return Optional.ofNullable(task.get());
+            } finally {
+                advisoryLock(connection, "SELECT pg_advisory_unlock(hashtext(?))", name);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Scheduler lock " + name + " failed", e);
+        }
+    }
+
+    /**
+     * @return true if the task ran on this instance
+     */
+    public boolean runExclusively(String name, Runnable task) {
+        return callExclusively(name, () -> {
+            task.run();
+            return Boolean.TRUE;
+        }).isPresent();
+    }
+
+    private boolean advisoryLock(Connection connection, String sql, String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, PREFIX + name);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+}
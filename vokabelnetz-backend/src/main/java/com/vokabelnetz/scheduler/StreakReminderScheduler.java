@@ -0,0 +1,126 @@
+package com.vokabelnetz.scheduler;
+
+import com.vokabelnetz.config.AppProperties;
+import com.vokabelnetz.entity.User;
+import com.vokabelnetz.repository.UserRepository;
+import com.vokabelnetz.service.EmailService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends streak reminders at each user's own reminder time (UserPreferences.reminderTime
+ * in the user's timezone, default 20:00).
+ *
+ * Users are kept in a {@link ReminderWheel} built from one query and rebuilt every hour.
+ * Every minute the current slot's users are checked with one set-based
+ * "not active today" query and their reminders are queued in the outbox.
+ *
+ * The wheel and last fired slot are per instance, so a slot may fire on more than
+ * one replica. Users are claimed per local date (users.last_streak_reminder_on) in
+ * the transaction that queues their email, so each gets at most one reminder a day.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StreakReminderScheduler {
+
+    // Slots missed while this instance was busy or paused are caught up to this limit
+    private static final int MAX_CATCH_UP_SLOTS = 15;
+
+    private final UserRepository userRepository;
+    private final EmailService emailService;
+    private final SchedulerLock schedulerLock;
+    private final TransactionTemplate transactionTemplate;
+    private final AppProperties appProperties;
+
+    // Only touched by the lock holder on the scheduler thread
+    private ReminderWheel wheel;
+    private Integer lastSlot;
+
+    @Scheduled(cron = "0 * * * * *") // Every minute at :00
+    public void sendDueReminders() {
+        schedulerLock.runExclusively("streak-reminders", this::fireDueSlots);
+    }
+
+    private void fireDueSlots() {
+        Instant now = Instant.now();
+        if (wheel == null || now.truncatedTo(ChronoUnit.HOURS).isAfter(wheel.builtAt())) {
+            rebuildWheel(now);
+        }
+
+        int currentSlot = ReminderWheel.slotOf(now);
+        int pending = lastSlot == null ? 1 : Math.floorMod(currentSlot - lastSlot, ReminderWheel.SLOTS);
+        pending = Math.min(pending, MAX_CATCH_UP_SLOTS);
+
+        int sent = 0;
+        for (int i = pending - 1; i >= 0; i--) {
+            sent += fireSlot(Math.floorMod(currentSlot - i, ReminderWheel.SLOTS), now);
+        }
+        lastSlot = currentSlot;
+
+        if (sent > 0) {
+            log.info("Streak reminders sent: {}", sent);
+        }
+    }
+
+    private void rebuildWheel(Instant now) {
+        long started = System.currentTimeMillis();
+        AppProperties.Streak config = appProperties.getStreak();
+        wheel = ReminderWheel.build(
+            userRepository.findReminderSchedules(),
+            ZoneId.of(config.getDefaultTimezone()),
+            LocalTime.parse(config.getDefaultReminderTime()),
+            now
+        );
+        log.info("Reminder wheel rebuilt with {} users in {} ms", wheel.size(), System.currentTimeMillis() - started);
+    }
+
+    private int fireSlot(int slot, Instant now) {
+        // Users in one slot can be on different local dates (e.g. UTC-10 and UTC+14)
+        Map<LocalDate, List<Long>> usersByLocalDate = new HashMap<>();
+        wheel.forEachInSlot(slot, (userId, zone) ->
+            usersByLocalDate.computeIfAbsent(LocalDate.ofInstant(now, zone), date -> new ArrayList<>()).add(userId));
+
+        int chunkSize = appProperties.getBatch().getChunkSize();
+        int sent = 0;
+        for (Map.Entry<LocalDate, List<Long>> entry : usersByLocalDate.entrySet()) {
+            List<Long> userIds = entry.getValue();
+            for (int from = 0; from < userIds.size(); from += chunkSize) {
+                List<Long> chunk = userIds.subList(from, Math.min(from + chunkSize, userIds.size()));
+                try {
+                    Integer queued = transactionTemplate.execute(status -> remind(chunk, entry.getKey()));
+                    sent += queued != null ? queued : 0;
+                } catch (Exception e) {
+                    log.error("Error sending streak reminders for slot {}: {}", slot, e.getMessage());
+                }
+            }
+        }
+        return sent;
+    }
+
+    private int remind(List<Long> userIds, LocalDate today) {
+        List<Long> due = userRepository.claimUsersToRemind(userIds, today);
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        List<User> users = userRepository.findAllById(due);
+        for (User user : users) {
+            emailService.sendStreakReminderEmail(user, user.getCurrentStreak());
+        }
+        return users.size();
+    }
+}
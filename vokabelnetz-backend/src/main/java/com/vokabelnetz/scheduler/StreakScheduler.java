@@ -1,137 +1,104 @@
 package com.vokabelnetz.scheduler;
 
+import com.vokabelnetz.config.AppProperties;
 import com.vokabelnetz.entity.DailyStats;
 import com.vokabelnetz.entity.User;
-import com.vokabelnetz.entity.UserPreferences;
 import com.vokabelnetz.repository.DailyStatsRepository;
-import com.vokabelnetz.repository.UserPreferencesRepository;
 import com.vokabelnetz.repository.UserRepository;
-import com.vokabelnetz.service.EmailService;
+import com.vokabelnetz.scheduler.batch.BatchJobResult;
+import com.vokabelnetz.scheduler.batch.ResumableBatchJob;
+import com.vokabelnetz.scheduler.batch.RunKeys;
+import com.vokabelnetz.scheduler.batch.UserBatchJobRunner;
 import com.vokabelnetz.service.StreakService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DateTimeException;
 import java.time.LocalDate;
-import java.time.LocalTime;
 import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * Scheduled tasks for streak management.
  * Based on ALGORITHMS.md documentation.
+ *
+ * The daily freeze award is the resumable batch job; its runs are keyed by day.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class StreakScheduler {
+public class StreakScheduler implements ResumableBatchJob {
+
+    private static final String FREEZE_AWARDS_JOB = "streak-freeze-awards";
 
     private final UserRepository userRepository;
     private final DailyStatsRepository dailyStatsRepository;
-    private final UserPreferencesRepository preferencesRepository;
     private final StreakService streakService;
-    private final EmailService emailService;
+    private final AppProperties appProperties;
+    private final UserBatchJobRunner batchJobRunner;
+    private final SchedulerLock schedulerLock;
 
     /**
      * Check and update streaks at midnight (user's timezone).
-     * Runs every hour to catch different timezones.
+     * Runs every hour; only timezones where the day just ended are processed,
+     * each with a few set-based statements in its own transaction.
      */
     @Scheduled(cron = "0 0 * * * *") // Every hour at :00
-    @Transactional
     public void processStreaks() {
+        // One instance per hour; a late instance re-running it changes nothing
+        schedulerLock.runExclusively("streak-rollover", this::rolloverMidnightTimezones);
+    }
+
+    private void rolloverMidnightTimezones() {
         log.info("Starting hourly streak processing...");
+        long started = System.currentTimeMillis();
+
+        String defaultTimezone = appProperties.getStreak().getDefaultTimezone();
+        Set<String> timezones = new TreeSet<>();
+        for (String timezone : userRepository.findDistinctActiveTimezones()) {
+            timezones.add(timezone != null ? timezone : defaultTimezone);
+        }
 
-        List<User> activeUsers = userRepository.findByIsActiveTrueAndDeletedAtIsNull();
-        int processed = 0;
+        int buckets = 0;
         int broken = 0;
         int freezeUsed = 0;
 
-        for (User user : activeUsers) {
+        for (String timezone : timezones) {
+            ZoneId zoneId;
             try {
-                String timezone = user.getTimezone() != null ? user.getTimezone() : "Europe/Istanbul";
-                ZoneId zoneId = ZoneId.of(timezone);
-                LocalTime nowInUserTz = LocalTime.now(zoneId);
-
-                // Only process if it's midnight in user's timezone (between 00:00 and 00:59)
-                if (nowInUserTz.getHour() != 0) {
-                    continue;
-                }
-
-                LocalDate yesterday = LocalDate.now(zoneId).minusDays(1);
-                boolean wasActiveYesterday = wasUserActiveOnDate(user.getId(), yesterday);
-
-                if (!wasActiveYesterday) {
-                    if (user.getCurrentStreak() > 0) {
-                        // Try to use streak freeze
-                        if (user.getStreakFreezesAvailable() > 0) {
-                            user.setStreakFreezesAvailable(user.getStreakFreezesAvailable() - 1);
-                            user.setStreakFreezeUsedAt(yesterday);
-                            userRepository.save(user);
-                            freezeUsed++;
-                            log.debug("Streak freeze used for user {}", user.getId());
-                        } else {
-                            // Break streak
-                            int oldStreak = user.getCurrentStreak();
-                            user.setCurrentStreak(0);
-                            userRepository.save(user);
-                            broken++;
-                            log.debug("Streak broken for user {} (was {} days)", user.getId(), oldStreak);
-                        }
-                    }
-                }
-
-                processed++;
-            } catch (Exception e) {
-                log.error("Error processing streak for user {}: {}", user.getId(), e.getMessage());
+                zoneId = ZoneId.of(timezone);
+            } catch (DateTimeException e) {
+                log.warn("Skipping streak processing for invalid timezone '{}'", timezone);
+                continue;
             }
-        }
-
-        log.info("Streak processing completed: {} users processed, {} streaks broken, {} freezes used",
-            processed, broken, freezeUsed);
-    }
-
-    /**
-     * Send streak reminder emails.
-     * Runs at 20:00 every day (server time) - users who haven't practiced today.
-     */
-    @Scheduled(cron = "0 0 20 * * *") // 20:00 every day
-    @Transactional(readOnly = true)
-    public void sendStreakReminders() {
-        log.info("Starting streak reminder job...");
 
-        List<User> activeUsers = userRepository.findByIsActiveTrueAndDeletedAtIsNull();
-        int sent = 0;
+            // Only process if it's midnight in this timezone (between 00:00 and 00:59)
+            ZonedDateTime nowInZone = ZonedDateTime.now(zoneId);
+            if (nowInZone.getHour() != 0) {
+                continue;
+            }
 
-        for (User user : activeUsers) {
+            long bucketStarted = System.currentTimeMillis();
             try {
-                // Check if user has streak reminders enabled
-                UserPreferences prefs = preferencesRepository.findByUserId(user.getId()).orElse(null);
-                if (prefs == null || !Boolean.TRUE.equals(prefs.getStreakReminders())) {
-                    continue;
-                }
-
-                // Only remind users with active streaks
-                if (user.getCurrentStreak() == 0) {
-                    continue;
-                }
-
-                String timezone = user.getTimezone() != null ? user.getTimezone() : "Europe/Istanbul";
-                ZoneId zoneId = ZoneId.of(timezone);
-                LocalDate today = LocalDate.now(zoneId);
-
-                // Check if user was active today
-                if (!wasUserActiveOnDate(user.getId(), today)) {
-                    emailService.sendStreakReminderEmail(user, user.getCurrentStreak());
-                    sent++;
-                }
+                StreakService.RolloverResult result =
+                    streakService.rolloverTimezone(timezone, nowInZone.toLocalDate().minusDays(1));
+                buckets++;
+                broken += result.broken();
+                freezeUsed += result.frozen();
+                log.info("Streak rollover for {}: {} streaks broken, {} freezes used in {} ms",
+                    timezone, result.broken(), result.frozen(), System.currentTimeMillis() - bucketStarted);
             } catch (Exception e) {
-                log.error("Error sending streak reminder for user {}: {}", user.getId(), e.getMessage());
+                log.error("Error processing streaks for timezone {}: {}", timezone, e.getMessage());
             }
         }
 
-        log.info("Streak reminders sent: {}", sent);
+        log.info("Streak processing completed: {} timezones processed, {} streaks broken, {} freezes used in {} ms",
+            buckets, broken, freezeUsed, System.currentTimeMillis() - started);
     }
 
     /**
@@ -139,14 +106,33 @@ public class StreakScheduler {
      * Runs daily at 01:00.
      */
     @Scheduled(cron = "0 0 1 * * *") // 01:00 every day
-    @Transactional
     public void awardStreakFreezes() {
         log.info("Starting streak freeze award job...");
 
-        List<User> activeUsers = userRepository.findByIsActiveTrueAndDeletedAtIsNull();
+        BatchJobResult result = batchJobRunner.run(FREEZE_AWARDS_JOB, currentRunKey(), this::awardStreakFreezeChunk);
+
+        log.info("Streak freezes awarded: {}", result.actedOn());
+    }
+
+    @Override
+    public String jobName() {
+        return FREEZE_AWARDS_JOB;
+    }
+
+    @Override
+    public String currentRunKey() {
+        return RunKeys.day(LocalDate.now());
+    }
+
+    @Override
+    public void runCurrentPeriod() {
+        awardStreakFreezes();
+    }
+
+    private int awardStreakFreezeChunk(List<Long> userIds) {
         int awarded = 0;
 
-        for (User user : activeUsers) {
+        for (User user : userRepository.findAllById(userIds)) {
             try {
                 // Award freeze every 7 days of streak (max 3)
                 int streak = user.getCurrentStreak();
@@ -173,7 +159,7 @@ public class StreakScheduler {
             }
         }
 
-        log.info("Streak freezes awarded: {}", awarded);
+        return awarded;
     }
 
     /**
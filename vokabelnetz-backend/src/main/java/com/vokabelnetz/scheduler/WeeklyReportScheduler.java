@@ -1,87 +1,128 @@
 package com.vokabelnetz.scheduler;
 
-import com.vokabelnetz.entity.DailyStats;
-import com.vokabelnetz.entity.User;
-import com.vokabelnetz.entity.UserPreferences;
+import com.vokabelnetz.config.AppProperties;
+import com.vokabelnetz.entity.enums.UiLanguage;
 import com.vokabelnetz.repository.DailyStatsRepository;
-import com.vokabelnetz.repository.UserPreferencesRepository;
+import com.vokabelnetz.repository.DailyStatsRepository.WeeklyTotals;
 import com.vokabelnetz.repository.UserRepository;
+import com.vokabelnetz.scheduler.batch.BatchJobResult;
+import com.vokabelnetz.scheduler.batch.ResumableBatchJob;
+import com.vokabelnetz.scheduler.batch.RunKeys;
+import com.vokabelnetz.scheduler.batch.UserBatchJobRunner;
 import com.vokabelnetz.service.EmailService;
+import com.vokabelnetz.service.EmailService.WeeklyReport;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 /**
  * Scheduled task for sending weekly progress reports.
+ *
+ * Each chunk of users costs one grouped query for all their weekly totals; the
+ * emails are then rendered in parallel and queued in one batch with no
+ * connection held. Runs are keyed by ISO week, so a run cut short on Monday is
+ * resumed later that week; totals are always taken as of Monday's trigger time.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class WeeklyReportScheduler {
+public class WeeklyReportScheduler implements ResumableBatchJob {
+
+    private static final String WEEKLY_REPORTS_JOB = "weekly-reports";
+    private static final LocalTime REPORT_TIME = LocalTime.of(9, 0);
 
     private final UserRepository userRepository;
     private final DailyStatsRepository dailyStatsRepository;
-    private final UserPreferencesRepository preferencesRepository;
     private final EmailService emailService;
+    private final UserBatchJobRunner batchJobRunner;
+    private final TransactionTemplate transactionTemplate;
+    private final AppProperties appProperties;
 
     /**
      * Send weekly progress reports.
      * Runs every Monday at 09:00.
      */
-    @Scheduled(cron = "0 0 9 * * MON") // 09:00 every Monday
-    @Transactional(readOnly = true)
+    @Scheduled(cron = "0 0 9 * * MON") // 09:00 every Monday, see REPORT_TIME
     public void sendWeeklyReports() {
         log.info("Starting weekly report job...");
 
-        List<User> activeUsers = userRepository.findByIsActiveTrueAndDeletedAtIsNull();
-        int sent = 0;
-
-        for (User user : activeUsers) {
-            try {
-                // Check if user has weekly reports enabled
-                UserPreferences prefs = preferencesRepository.findByUserId(user.getId()).orElse(null);
-                if (prefs == null || !Boolean.TRUE.equals(prefs.getWeeklyReport())) {
-                    continue;
-                }
-
-                // Calculate weekly stats
-                String timezone = user.getTimezone() != null ? user.getTimezone() : "Europe/Istanbul";
-                ZoneId zoneId = ZoneId.of(timezone);
-                LocalDate today = LocalDate.now(zoneId);
-                LocalDate weekAgo = today.minusDays(7);
-
-                List<DailyStats> weeklyStats = dailyStatsRepository.findByUserIdAndDateRange(
-                    user.getId(), weekAgo, today
-                );
-
-                int totalWordsLearned = weeklyStats.stream()
-                    .mapToInt(s -> s.getNewWordsLearned() != null ? s.getNewWordsLearned() : 0)
-                    .sum();
-
-                int totalWordsReviewed = weeklyStats.stream()
-                    .mapToInt(s -> s.getWordsReviewed() != null ? s.getWordsReviewed() : 0)
-                    .sum();
-
-                // Send email with stats
-                emailService.sendWeeklyReportEmail(
-                    user,
-                    totalWordsLearned,
-                    totalWordsReviewed,
-                    user.getCurrentStreak()
-                );
-
-                sent++;
-            } catch (Exception e) {
-                log.error("Error sending weekly report for user {}: {}", user.getId(), e.getMessage());
-            }
+        Instant asOf = LocalDate.now().with(DayOfWeek.MONDAY).atTime(REPORT_TIME)
+            .atZone(ZoneId.systemDefault()).toInstant();
+
+        // Postgres rejects unknown zone names, so only zones Java accepts are passed through
+        String defaultTimezone = appProperties.getStreak().getDefaultTimezone();
+        List<String> validTimezones = Stream.concat(
+                Stream.of(defaultTimezone),
+                userRepository.findDistinctActiveTimezones().stream().filter(Objects::nonNull).filter(this::isValidTimezone))
+            .distinct()
+            .toList();
+
+        BatchJobResult result = batchJobRunner.runWithoutTransaction(WEEKLY_REPORTS_JOB, currentRunKey(),
+            userIds -> sendWeeklyReportChunk(userIds, asOf, validTimezones, defaultTimezone));
+
+        log.info("Weekly reports sent: {}", result.actedOn());
+    }
+
+    @Override
+    public String jobName() {
+        return WEEKLY_REPORTS_JOB;
+    }
+
+    @Override
+    public String currentRunKey() {
+        return RunKeys.isoWeek(LocalDate.now());
+    }
+
+    @Override
+    public void runCurrentPeriod() {
+        sendWeeklyReports();
+    }
+
+    private int sendWeeklyReportChunk(
+        List<Long> userIds,
+        Instant asOf,
+        List<String> validTimezones,
+        String defaultTimezone
+    ) {
+        List<WeeklyTotals> totals = transactionTemplate.execute(status ->
+            dailyStatsRepository.findWeeklyTotals(userIds, asOf, validTimezones, defaultTimezone));
+        if (totals == null || totals.isEmpty()) {
+            return 0;
         }
 
-        log.info("Weekly reports sent: {}", sent);
+        List<WeeklyReport> reports = totals.stream()
+            .map(row -> new WeeklyReport(
+                row.getEmail(),
+                row.getDisplayName(),
+                row.getUiLanguage() != null ? UiLanguage.valueOf(row.getUiLanguage()) : UiLanguage.EN,
+                row.getWordsLearned(),
+                row.getWordsReviewed(),
+                row.getCurrentStreak() != null ? row.getCurrentStreak() : 0
+            ))
+            .toList();
+
+        return emailService.sendWeeklyReportEmails(reports);
+    }
+
+    private boolean isValidTimezone(String timezone) {
+        try {
+            ZoneId.of(timezone);
+            return true;
+        } catch (DateTimeException e) {
+            log.warn("Invalid timezone '{}', weekly reports use {}", timezone, appProperties.getStreak().getDefaultTimezone());
+            return false;
+        }
     }
 }
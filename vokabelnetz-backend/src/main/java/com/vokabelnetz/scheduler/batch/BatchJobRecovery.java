@@ -0,0 +1,59 @@
+package com.vokabelnetz.scheduler.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Restarts user-wide jobs whose run was cut short by a dying instance.
+ *
+ * Jobs otherwise only start from their cron trigger, and the next trigger belongs
+ * to the next period, so the users after the crash point would be skipped. Checked
+ * once the application is ready and then every {@code app.batch.resume-check-minutes}.
+ */
+@Component
+@ConditionalOnProperty(name = "app.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class BatchJobRecovery {
+
+    private final List<ResumableBatchJob> jobs;
+    private final UserBatchJobRunner batchJobRunner;
+    private final TaskScheduler taskScheduler;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        // On the scheduler pool, so a resumed run does not hold up the event thread
+        taskScheduler.schedule(this::resumeInterruptedRuns, Instant.now());
+    }
+
+    @Scheduled(
+        fixedDelayString = "${app.batch.resume-check-minutes}",
+        initialDelayString = "${app.batch.resume-check-minutes}",
+        timeUnit = TimeUnit.MINUTES
+    )
+    public void resumeInterruptedRuns() {
+        for (ResumableBatchJob job : jobs) {
+            String runKey = job.currentRunKey();
+            if (!batchJobRunner.isInterrupted(job.jobName(), runKey)) {
+                continue;
+            }
+
+            log.warn("Job {} ({}) was interrupted, resuming", job.jobName(), runKey);
+            try {
+                job.runCurrentPeriod();
+            } catch (Exception e) {
+                log.error("Resuming job {} ({}) failed: {}", job.jobName(), runKey, e.getMessage());
+            }
+        }
+    }
+}
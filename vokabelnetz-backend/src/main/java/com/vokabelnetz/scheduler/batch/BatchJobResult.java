@@ -0,0 +1,29 @@
+package com.vokabelnetz.scheduler.batch;
+
+/**
+ * Outcome of one run of a user-wide job.
+ */
+public record BatchJobResult(
+    int processedUsers,
+    int actedOn,
+    int failedUsers,
+    long durationMillis,
+    boolean skipped
+) {
+    public static BatchJobResult alreadyCompleted() {
+        return new BatchJobResult(0, 0, 0, 0, true);
+    }
+
+    /**
+     * Combine the results of two shards; skipped only if both were.
+     */
+    public BatchJobResult plus(BatchJobResult other) {
+        return new BatchJobResult(
+            processedUsers + other.processedUsers,
+            actedOn + other.actedOn,
+            failedUsers + other.failedUsers,
+            durationMillis + other.durationMillis,
+            skipped && other.skipped
+        );
+    }
+}
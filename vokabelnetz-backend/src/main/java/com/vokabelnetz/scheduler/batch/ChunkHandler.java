@@ -0,0 +1,17 @@
+package com.vokabelnetz.scheduler.batch;
+
+import java.util.List;
+
+/**
+ * Work for one chunk of a user-wide job. Runs in its own transaction unless the job
+ * was started with UserBatchJobRunner.runWithoutTransaction.
+ */
+@FunctionalInterface
+public interface ChunkHandler {
+
+    /**
+     * @param userIds active user IDs, ascending
+     * @return number of users the job acted on (e.g. emails sent)
+     */
+    int handle(List<Long> userIds);
+}
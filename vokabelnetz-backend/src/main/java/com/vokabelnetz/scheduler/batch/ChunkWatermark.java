@@ -0,0 +1,33 @@
+package com.vokabelnetz.scheduler.batch;
+
+import java.util.TreeMap;
+
+/**
+ * Tracks chunks finishing out of order and yields the highest user ID
+ * below which every chunk is done - the safe resume point.
+ */
+class ChunkWatermark {
+
+    // Chunk end ID -> finished
+    private final TreeMap<Long, Boolean> chunks = new TreeMap<>();
+    private long watermark;
+
+    ChunkWatermark(long start) {
+        this.watermark = start;
+    }
+
+    synchronized void submitted(long chunkEnd) {
+        chunks.put(chunkEnd, false);
+    }
+
+    /**
+     * @return the new watermark after marking the chunk finished
+     */
+    synchronized long finished(long chunkEnd) {
+        chunks.put(chunkEnd, true);
+        while (!chunks.isEmpty() && chunks.firstEntry().getValue()) {
+            watermark = chunks.pollFirstEntry().getKey();
+        }
+        return watermark;
+    }
+}
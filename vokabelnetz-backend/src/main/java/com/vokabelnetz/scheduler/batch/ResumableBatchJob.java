@@ -0,0 +1,23 @@
+package com.vokabelnetz.scheduler.batch;
+
+/**
+ * A job run by {@link UserBatchJobRunner} that {@link BatchJobRecovery} restarts
+ * when the instance running it died before the current period's run finished.
+ */
+public interface ResumableBatchJob {
+
+    /**
+     * @return the job name passed to UserBatchJobRunner
+     */
+    String jobName();
+
+    /**
+     * @return the run key of the current period (see {@link RunKeys})
+     */
+    String currentRunKey();
+
+    /**
+     * Run the job for the current period; finished work is skipped via the checkpoints.
+     */
+    void runCurrentPeriod();
+}
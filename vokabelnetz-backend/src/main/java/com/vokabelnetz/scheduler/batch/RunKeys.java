@@ -0,0 +1,29 @@
+package com.vokabelnetz.scheduler.batch;
+
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+
+/**
+ * Run keys for periodic jobs. A run keeps its key for the whole period, so an
+ * interrupted run can be resumed until the period ends.
+ */
+public final class RunKeys {
+
+    private RunKeys() {
+    }
+
+    /**
+     * @return e.g. {@code 2026-10-19}
+     */
+    public static String day(LocalDate date) {
+        return date.toString();
+    }
+
+    /**
+     * @return the ISO week, e.g. {@code 2026-W43}
+     */
+    public static String isoWeek(LocalDate date) {
+        return String.format("%d-W%02d",
+            date.get(IsoFields.WEEK_BASED_YEAR), date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+    }
+}
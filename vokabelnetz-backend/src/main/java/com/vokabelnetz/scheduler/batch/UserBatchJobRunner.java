@@ -0,0 +1,277 @@
+package com.vokabelnetz.scheduler.batch;
+
+import com.vokabelnetz.config.AppProperties;
+import com.vokabelnetz.entity.BatchJobCheckpoint;
+import com.vokabelnetz.monitoring.SchedulerChunkEvent;
+import com.vokabelnetz.monitoring.SqlStatementStats;
+import com.vokabelnetz.monitoring.SqlStatementTracker;
+import com.vokabelnetz.repository.BatchJobCheckpointRepository;
+import com.vokabelnetz.repository.UserRepository;
+import com.vokabelnetz.scheduler.SchedulerLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Runs a job over all active users in keyset-paged chunks.
+ *
+ * Each chunk gets its own short transaction and runs on a virtual thread; at most
+ * {@code app.batch.db-concurrency} chunks are in flight, which also bounds the
+ * connections the job takes from the pool. Progress is checkpointed per job and
+ * run key, so a run that crashed resumes after the last fully processed user;
+ * {@link BatchJobRecovery} restarts it while its period lasts.
+ *
+ * Users are split into {@code app.batch.shards} shards by {@code id % shards}. Every
+ * instance walks all shards starting at a random one and processes those it can lock
+ * and that are not completed yet, so replicas share the work without coordination.
+ * A run returns once every shard is completed, whichever instance completed it.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserBatchJobRunner {
+
+    private final UserRepository userRepository;
+    private final BatchJobCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AppProperties appProperties;
+    private final SchedulerLock schedulerLock;
+
+    /**
+     * @param jobName stable job identifier
+     * @param runKey  identifies one run by its period (see {@link RunKeys}); a run with a new key starts from the beginning
+     * @return totals for the shards this instance processed
+     */
+    public BatchJobResult run(String jobName, String runKey, ChunkHandler handler) {
+        return run(jobName, runKey, handler, true);
+    }
+
+    /**
+     * Like {@link #run}, but chunks are not wrapped in a transaction; the handler opens
+     * its own short ones, so no connection is held while it does non-database work.
+     */
+    public BatchJobResult runWithoutTransaction(String jobName, String runKey, ChunkHandler handler) {
+        return run(jobName, runKey, handler, false);
+    }
+
+    private BatchJobResult run(String jobName, String runKey, ChunkHandler handler, boolean transactional) {
+        int shards = Math.max(1, appProperties.getBatch().getShards());
+        int first = ThreadLocalRandom.current().nextInt(shards);
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < shards; i++) {
+            pending.add((first + i) % shards);
+        }
+        BatchJobResult total = BatchJobResult.alreadyCompleted();
+
+        // Shards locked elsewhere are retried until they are completed or this instance
+        // gets the lock, so a shard whose holder died is finished in the same run
+        while (!pending.isEmpty() && !Thread.currentThread().isInterrupted()) {
+            Iterator<Integer> shardsLeft = pending.iterator();
+            while (shardsLeft.hasNext() && !Thread.currentThread().isInterrupted()) {
+                int shard = shardsLeft.next();
+                String shardName = shardName(jobName, shards, shard);
+                Optional<BatchJobResult> result = schedulerLock.callExclusively(shardName,
+                    () -> runShard(shardName, runKey, shards, shard, handler, transactional));
+                if (result.isPresent()) {
+                    total = total.plus(result.get());
+                    shardsLeft.remove();
+                } else if (isCompleted(shardName, runKey)) {
+                    shardsLeft.remove();
+                }
+            }
+
+            if (!pending.isEmpty()) {
+                log.debug("Job {} ({}): shards {} running elsewhere, checking again", jobName, runKey, pending);
+                try {
+                    Thread.sleep(Duration.ofSeconds(appProperties.getBatch().getLockRetrySeconds()));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        return total;
+    }
+
+    private boolean isCompleted(String shardName, String runKey) {
+        return checkpointRepository.findById(shardName)
+            .filter(checkpoint -> checkpoint.getRunKey().equals(runKey) && checkpoint.isCompleted())
+            .isPresent();
+    }
+
+    /**
+     * @return true if the run was started, and one of its shards is not completed
+     *         and not locked by any instance, i.e. the instance running it died
+     */
+    public boolean isInterrupted(String jobName, String runKey) {
+        int shards = Math.max(1, appProperties.getBatch().getShards());
+        List<String> shardNames = IntStream.range(0, shards)
+            .mapToObj(shard -> shardName(jobName, shards, shard))
+            .toList();
+        Map<String, BatchJobCheckpoint> checkpoints = checkpointRepository.findAllById(shardNames).stream()
+            .filter(checkpoint -> checkpoint.getRunKey().equals(runKey))
+            .collect(Collectors.toMap(BatchJobCheckpoint::getJobName, Function.identity()));
+        if (checkpoints.isEmpty()) {
+            return false;
+        }
+
+        return shardNames.stream().anyMatch(shardName -> {
+            BatchJobCheckpoint checkpoint = checkpoints.get(shardName);
+            boolean completed = checkpoint != null && checkpoint.isCompleted();
+            return !completed && schedulerLock.runExclusively(shardName, () -> { });
+        });
+    }
+
+    // Checkpoint and lock are per shard; unsharded jobs keep the plain job name
+    private static String shardName(String jobName, int shards, int shard) {
+        return shards == 1 ? jobName : jobName + "#" + shard;
+    }
+
+    private BatchJobResult runShard(
+        String jobName,
+        String runKey,
+        int shards,
+        int shard,
+        ChunkHandler handler,
+        boolean transactional
+    ) {
+        BatchJobCheckpoint checkpoint = transactionTemplate.execute(status -> startOrResume(jobName, runKey));
+        if (checkpoint.isCompleted()) {
+            log.info("Job {} already completed for run {}", jobName, runKey);
+            return BatchJobResult.alreadyCompleted();
+        }
+
+        AppProperties.Batch config = appProperties.getBatch();
+        long started = System.currentTimeMillis();
+        ChunkWatermark watermark = new ChunkWatermark(checkpoint.getLastUserId());
+        Semaphore inFlight = new Semaphore(config.getDbConcurrency());
+        AtomicInteger processed = new AtomicInteger();
+        AtomicInteger actedOn = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        // Workers count their statements towards the scheduled job that started the run
+        SqlStatementStats jobStats = SqlStatementTracker.current();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            long afterId = checkpoint.getLastUserId();
+            while (true) {
+                // Wait for a free slot before reading the next page (backpressure)
+                inFlight.acquire();
+                List<Long> userIds = userRepository.findActiveUserIdsAfter(
+                    afterId, shards, shard, Limit.of(config.getChunkSize()));
+                if (userIds.isEmpty()) {
+                    inFlight.release();
+                    break;
+                }
+
+                long chunkEnd = userIds.getLast();
+                watermark.submitted(chunkEnd);
+                workers.submit(() -> {
+                    try (SqlStatementTracker.Scope scope = SqlStatementTracker.join(jobStats)) {
+                        runChunk(jobName, runKey, handler, transactional, userIds, watermark, processed, actedOn, failed);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+                afterId = chunkEnd;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Job {} interrupted; run {} will resume from its checkpoint", jobName, runKey);
+            return new BatchJobResult(processed.get(), actedOn.get(), failed.get(),
+                System.currentTimeMillis() - started, false);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> checkpointRepository.markCompleted(jobName, runKey));
+
+        BatchJobResult result = new BatchJobResult(processed.get(), actedOn.get(), failed.get(),
+            System.currentTimeMillis() - started, false);
+        log.info("Job {} ({}) completed: {} users processed, {} acted on, {} failed in {} ms",
+            jobName, runKey, result.processedUsers(), result.actedOn(), result.failedUsers(), result.durationMillis());
+        return result;
+    }
+
+    private BatchJobCheckpoint startOrResume(String jobName, String runKey) {
+        BatchJobCheckpoint existing = checkpointRepository.findById(jobName).orElse(null);
+        if (existing != null && existing.getRunKey().equals(runKey)) {
+            if (!existing.isCompleted()) {
+                log.info("Resuming job {} ({}) after user {}", jobName, runKey, existing.getLastUserId());
+            }
+            return existing;
+        }
+
+        BatchJobCheckpoint fresh = existing != null ? existing : BatchJobCheckpoint.builder().jobName(jobName).build();
+        fresh.setRunKey(runKey);
+        fresh.setStatus(BatchJobCheckpoint.RUNNING);
+        fresh.setLastUserId(0L);
+        fresh.setProcessedUsers(0);
+        fresh.setFailedUsers(0);
+        fresh.setStartedAt(Instant.now());
+        fresh.setUpdatedAt(Instant.now());
+        fresh.setCompletedAt(null);
+        return checkpointRepository.save(fresh);
+    }
+
+    private void runChunk(
+        String jobName,
+        String runKey,
+        ChunkHandler handler,
+        boolean transactional,
+        List<Long> userIds,
+        ChunkWatermark watermark,
+        AtomicInteger processed,
+        AtomicInteger actedOn,
+        AtomicInteger failed
+    ) {
+        SchedulerChunkEvent event = new SchedulerChunkEvent();
+        event.begin();
+        int chunkActedOn = 0;
+        int chunkFailed = 0;
+        try {
+            Integer acted = transactional
+                ? transactionTemplate.execute(status -> handler.handle(userIds))
+                : Integer.valueOf(handler.handle(userIds));
+            chunkActedOn = acted != null ? acted : 0;
+            actedOn.addAndGet(chunkActedOn);
+        } catch (Exception e) {
+            // Not retried: the checkpoint moves past failed chunks so one bad chunk cannot block the run
+            chunkFailed = userIds.size();
+            log.error("Job {} failed for users {}..{}: {}", jobName, userIds.getFirst(), userIds.getLast(), e.getMessage());
+        }
+        processed.addAndGet(userIds.size());
+        failed.addAndGet(chunkFailed);
+
+        long resumeAfter = watermark.finished(userIds.getLast());
+        int failedInChunk = chunkFailed;
+        transactionTemplate.executeWithoutResult(status -> checkpointRepository.recordProgress(
+            jobName, runKey, resumeAfter, userIds.size(), failedInChunk));
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.job = jobName;
+            event.runKey = runKey;
+            event.firstUserId = userIds.getFirst();
+            event.lastUserId = userIds.getLast();
+            event.users = userIds.size();
+            event.actedOn = chunkActedOn;
+            event.failed = chunkFailed;
+            event.commit();
+        }
+    }
+}
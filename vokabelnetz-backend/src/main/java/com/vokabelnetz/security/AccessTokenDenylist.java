@@ -0,0 +1,126 @@
+package com.vokabelnetz.security;
+
+import com.vokabelnetz.config.AppProperties;
+import com.vokabelnetz.config.JwtProperties;
+import com.vokabelnetz.entity.TokenRevocation;
+import com.vokabelnetz.repository.TokenRevocationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory denylist of revoked access-token generations.
+ *
+ * Every instance polls the token_revocations table every few seconds, so a
+ * revocation on one instance applies cluster-wide without a per-request query.
+ * A Bloom filter over user IDs answers the common "never revoked" case without
+ * touching the map. Entries are dropped once every token they cover has expired.
+ */
+@Component
+@Slf4j
+public class AccessTokenDenylist {
+
+    // Re-read this far back on every poll: rows from transactions that committed late still get applied
+    private static final Duration POLL_OVERLAP = Duration.ofSeconds(30);
+    // Margin for clock differences between database and application
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(1);
+
+    private final TokenRevocationRepository revocationRepository;
+    private final Duration retention;
+    private final long filterSize;
+    private final Map<Long, Revocation> revocations = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter filter;
+    private volatile Instant polledUntil;
+
+    public AccessTokenDenylist(
+        TokenRevocationRepository revocationRepository,
+        JwtProperties jwtProperties,
+        AppProperties appProperties
+    ) {
+        this.revocationRepository = revocationRepository;
+        this.retention = Duration.ofMillis(jwtProperties.getAccessTokenExpiration()).plus(CLOCK_SKEW);
+        this.filterSize = appProperties.getSecurity().getTokenDenylistFilterSize();
+        this.filter = new BloomFilter(filterSize, 0.01);
+        // First poll loads everything that can still matter
+        this.polledUntil = Instant.now().minus(retention);
+    }
+
+    /**
+     * Whether an access token with this generation claim was revoked.
+     */
+    public boolean isRevoked(long userId, int tokenGeneration) {
+        if (!filter.mightContain(mix(userId), mix(~userId))) {
+            return false;
+        }
+        Revocation revocation = revocations.get(userId);
+        return revocation != null && tokenGeneration < revocation.minGeneration();
+    }
+
+    /**
+     * Apply a revocation locally (own instance, or read from the table).
+     */
+    public synchronized void revoke(long userId, int minGeneration, Instant revokedAt) {
+        Instant expiresAt = revokedAt.plus(retention);
+        revocations.merge(userId, new Revocation(minGeneration, expiresAt), (current, added) ->
+            new Revocation(
+                Math.max(current.minGeneration(), added.minGeneration()),
+                current.expiresAt().isAfter(added.expiresAt()) ? current.expiresAt() : added.expiresAt()
+            ));
+        filter.put(mix(userId), mix(~userId));
+    }
+
+    /**
+     * Pull revocations made by other instances.
+     */
+    @Scheduled(fixedDelay = 2_000)
+    @Transactional(readOnly = true)
+    public void poll() {
+        Instant pollStart = Instant.now();
+        List<TokenRevocation> recent = revocationRepository.findRevokedSince(polledUntil.minus(POLL_OVERLAP));
+        recent.forEach(revocation ->
+            revoke(revocation.getUserId(), revocation.getMinGeneration(), revocation.getRevokedAt()));
+        polledUntil = pollStart;
+    }
+
+    /**
+     * Forget revocations whose tokens have all expired, rebuild the filter
+     * without them, and delete the old rows.
+     */
+    @Scheduled(fixedDelay = 600_000)
+    @Transactional
+    public void prune() {
+        Instant now = Instant.now();
+        synchronized (this) {
+            revocations.values().removeIf(revocation -> revocation.expiresAt().isBefore(now));
+            BloomFilter rebuilt = new BloomFilter(Math.max(filterSize, revocations.size() * 2L), 0.01);
+            revocations.keySet().forEach(userId -> rebuilt.put(mix(userId), mix(~userId)));
+            filter = rebuilt;
+        }
+
+        int deleted = revocationRepository.deleteRevokedBefore(now.minus(retention));
+        if (deleted > 0) {
+            log.debug("Deleted {} expired token revocations", deleted);
+        }
+    }
+
+    /**
+     * Spreads sequential user IDs over the filter (SplitMix64 finalizer).
+     */
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private record Revocation(int minGeneration, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.vokabelnetz.security;
+
+import java.time.Instant;
+
+/**
+ * An unrevoked refresh token as tracked by the {@link SessionRegistry}.
+ */
+public record ActiveSession(Long id, byte[] tokenHash, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
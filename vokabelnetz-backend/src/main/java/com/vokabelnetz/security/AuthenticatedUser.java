@@ -0,0 +1,17 @@
+package com.vokabelnetz.security;
+
+import com.vokabelnetz.entity.enums.Role;
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ * Principal built from access token claims.
+ * Controllers that need the full entity take {@code @CurrentUser User} instead,
+ * which loads it on demand.
+ */
+public record AuthenticatedUser(Long id, String email, Role role) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return id.toString();
+    }
+}
@@ -0,0 +1,163 @@
+package com.vokabelnetz.security;
+
+import com.vokabelnetz.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Password encoder that runs the (memory-hard) delegate on a dedicated, size-capped executor.
+ *
+ * Request threads only wait for the result, so a login burst queues on the hashing
+ * pool instead of running unbounded Argon2 instances in parallel. A full queue or
+ * an exceeded wait fails fast with 503.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ExecutorService executor;
+    private final long timeoutMillis;
+    private final Timer queueTimer;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public BoundedPasswordEncoder(
+        PasswordEncoder delegate,
+        ExecutorService executor,
+        long timeoutMillis,
+        MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.timeoutMillis = timeoutMillis;
+        this.queueTimer = Timer.builder("vokabelnetz.password.hash.queue")
+            .description("Time password hashing tasks wait for a hashing thread")
+            .register(meterRegistry);
+        this.encodeTimer = Timer.builder("vokabelnetz.password.hash")
+            .tag("operation", "encode")
+            .register(meterRegistry);
+        this.matchesTimer = Timer.builder("vokabelnetz.password.hash")
+            .tag("operation", "matches")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return await(submit(() -> encodeTimer.recordCallable(() -> delegate.encode(rawPassword))));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return await(submit(matchTask(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Check a password against several hashes in parallel.
+     * Returns as soon as one matches and cancels the remaining checks.
+     */
+    public boolean matchesAny(CharSequence rawPassword, List<String> encodedPasswords) {
+        if (encodedPasswords.isEmpty()) {
+            return false;
+        }
+
+        CompletionService<Boolean> completion = new ExecutorCompletionService<>(executor);
+        List<Future<Boolean>> futures = new ArrayList<>(encodedPasswords.size());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        try {
+            for (String encoded : encodedPasswords) {
+                futures.add(submit(completion, matchTask(rawPassword, encoded)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                Future<Boolean> done = completion.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    throw busy("Password history check timed out");
+                }
+                if (Boolean.TRUE.equals(done.get())) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw busy("Interrupted while checking password history");
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private Callable<Boolean> matchTask(CharSequence rawPassword, String encodedPassword) {
+        return () -> matchesTimer.recordCallable(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return executor.submit(timed(task));
+        } catch (RejectedExecutionException e) {
+            throw busy("Password hashing queue is full");
+        }
+    }
+
+    private <T> Future<T> submit(CompletionService<T> completion, Callable<T> task) {
+        try {
+            return completion.submit(timed(task));
+        } catch (RejectedExecutionException e) {
+            throw busy("Password hashing queue is full");
+        }
+    }
+
+    private <T> Callable<T> timed(Callable<T> task) {
+        long queuedAt = System.nanoTime();
+        return () -> {
+            queueTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+            return task.call();
+        };
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw busy("Password hashing timed out");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw busy("Interrupted while hashing password");
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private ServiceUnavailableException busy(String reason) {
+        log.warn("{}; rejecting request", reason);
+        return new ServiceUnavailableException();
+    }
+
+    private RuntimeException unwrap(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        return new IllegalStateException("Password hashing failed", e.getCause());
+    }
+}
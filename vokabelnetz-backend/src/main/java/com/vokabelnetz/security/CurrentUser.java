@@ -1,15 +1,17 @@
 package com.vokabelnetz.security;
 
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-
 import java.lang.annotation.*;
 
 /**
  * Custom annotation to inject the current authenticated user.
+ *
+ * Works on {@link AuthenticatedUser} (no database access) and on
+ * {@link com.vokabelnetz.entity.User} (loaded per request).
+ *
+ * @see CurrentUserArgumentResolver
  */
 @Target({ElementType.PARAMETER, ElementType.TYPE})
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
-@AuthenticationPrincipal
 public @interface CurrentUser {
 }
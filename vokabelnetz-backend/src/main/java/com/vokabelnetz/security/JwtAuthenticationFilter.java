@@ -1,7 +1,6 @@
 package com.vokabelnetz.security;
 
-import com.vokabelnetz.entity.User;
-import com.vokabelnetz.repository.UserRepository;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,6 +21,11 @@ import java.util.List;
 
 /**
  * JWT authentication filter.
+ *
+ * The principal is built from token claims. Active flag, role and token
+ * generation come from {@link UserSecurityStateService}, so a valid token
+ * needs no query unless the user's cache entry is missing. Revocations made
+ * on other instances are caught by the {@link AccessTokenDenylist}.
  */
 @Component
 @RequiredArgsConstructor
@@ -29,7 +33,8 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final UserRepository userRepository;
+    private final UserSecurityStateService securityStateService;
+    private final AccessTokenDenylist denylist;
 
     @Override
     protected void doFilterInternal(
@@ -40,35 +45,51 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = extractTokenFromRequest(request);
 
-        if (StringUtils.hasText(token) && jwtService.validateToken(token)) {
+        if (StringUtils.hasText(token)) {
             try {
-                Long userId = jwtService.extractUserId(token);
+                jwtService.parseValidClaims(token).ifPresent(claims -> authenticate(claims, request));
+            } catch (Exception e) {
+                log.error("Error processing JWT token", e);
+            }
+        }
 
-                User user = userRepository.findByIdAndDeletedAtIsNull(userId)
-                    .orElse(null);
+        filterChain.doFilter(request, response);
+    }
 
-                if (user != null && Boolean.TRUE.equals(user.getIsActive())) {
-                    var authorities = List.of(
-                        new SimpleGrantedAuthority(user.getRole().name())
-                    );
+    private void authenticate(Claims claims, HttpServletRequest request) {
+        Long userId = Long.parseLong(claims.getSubject());
+        int tokenGeneration = jwtService.extractTokenGeneration(claims);
 
-                    UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(user, null, authorities);
+        // Revocations from any instance, applied within seconds
+        if (denylist.isRevoked(userId, tokenGeneration)) {
+            log.debug("Token for user {} rejected (revoked)", userId);
+            return;
+        }
 
-                    authentication.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request)
-                    );
+        UserSecurityState state = securityStateService.getState(userId).orElse(null);
+        if (state == null || !state.accepts(tokenGeneration)) {
+            log.debug("Token for user {} rejected (inactive, deleted or revoked)", userId);
+            return;
+        }
 
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
+        // Role from the security state, so a role change applies without a new token
+        AuthenticatedUser principal = new AuthenticatedUser(
+            userId,
+            claims.get(JwtService.CLAIM_EMAIL, String.class),
+            state.role()
+        );
+        var authorities = List.of(new SimpleGrantedAuthority(state.role().name()));
 
-                    log.debug("User {} authenticated via JWT", userId);
-                }
-            } catch (Exception e) {
-                log.error("Error processing JWT token", e);
-            }
-        }
+        UsernamePasswordAuthenticationToken authentication =
+            new UsernamePasswordAuthenticationToken(principal, null, authorities);
 
-        filterChain.doFilter(request, response);
+        authentication.setDetails(
+            new WebAuthenticationDetailsSource().buildDetails(request)
+        );
+
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        log.debug("User {} authenticated via JWT", userId);
     }
 
     private String extractTokenFromRequest(HttpServletRequest request) {
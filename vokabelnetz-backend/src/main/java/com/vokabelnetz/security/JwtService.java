@@ -1,27 +1,68 @@
 package com.vokabelnetz.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.vokabelnetz.config.JwtProperties;
 import com.vokabelnetz.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
 
 /**
  * JWT token service.
  * Based on SECURITY.md documentation.
+ *
+ * The signing key and parser are built once. Verified tokens are kept in a
+ * bounded cache until their expiry, keyed by the token's SHA-256 digest, so
+ * repeat requests with the same access token skip signature verification and
+ * claims parsing.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class JwtService {
 
+    public static final String CLAIM_EMAIL = "email";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_TOKEN_GENERATION = "gen";
+
     private final JwtProperties jwtProperties;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    // Keyed by SHA-256 of the token so live bearer tokens are not held in the heap as cache keys.
+    // One digest is far cheaper than the Base64 decoding, HMAC check and JSON parsing it replaces.
+    private final Cache<String, Claims> verifiedTokens;
+    private final boolean cacheVerifiedTokens;
+
+    public JwtService(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        this.jwtProperties = jwtProperties;
+        this.signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+            .verifyWith(signingKey)
+            .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(jwtProperties.getVerifiedTokenCacheSize())
+            .expireAfter(Expiry.creating((String tokenHash, Claims claims) ->
+                Duration.between(Instant.now(), claims.getExpiration().toInstant())))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified-tokens");
+        this.cacheVerifiedTokens = jwtProperties.getVerifiedTokenCacheSize() > 0;
+    }
 
     /**
      * Generate access token for user.
@@ -32,8 +73,9 @@ public class JwtService {
 
         return Jwts.builder()
             .subject(user.getId().toString())
-            .claim("email", user.getEmail())
-            .claim("role", user.getRole().name())
+            .claim(CLAIM_EMAIL, user.getEmail())
+            .claim(CLAIM_ROLE, user.getRole().name())
+            .claim(CLAIM_TOKEN_GENERATION, user.getTokenGeneration())
             .issuedAt(now)
             .expiration(expiry)
             .signWith(getSigningKey())
@@ -53,26 +95,50 @@ public class JwtService {
      */
     public String extractEmail(String token) {
         Claims claims = extractAllClaims(token);
-        return claims.get("email", String.class);
+        return claims.get(CLAIM_EMAIL, String.class);
     }
 
     /**
      * Validate token.
      */
     public boolean validateToken(String token) {
+        return parseValidClaims(token).isPresent();
+    }
+
+    /**
+     * Verify the token and return its claims in one pass.
+     *
+     * @return claims, or empty if the token is invalid or expired
+     */
+    public Optional<Claims> parseValidClaims(String token) {
+        String tokenHash = token != null && cacheVerifiedTokens ? hashToken(token) : null;
+        Claims cached = tokenHash != null ? verifiedTokens.getIfPresent(tokenHash) : null;
+        if (cached != null && cached.getExpiration().after(new Date())) {
+            return Optional.of(cached);
+        }
+
         try {
-            extractAllClaims(token);
-            return true;
+            Claims claims = extractAllClaims(token);
+            if (tokenHash != null && claims.getExpiration() != null) {
+                verifiedTokens.put(tokenHash, claims);
+            }
+            return Optional.of(claims);
         } catch (ExpiredJwtException e) {
             log.debug("JWT token expired");
-        } catch (MalformedJwtException e) {
-            log.debug("Invalid JWT token");
-        } catch (UnsupportedJwtException e) {
-            log.debug("Unsupported JWT token");
+        } catch (JwtException e) {
+            log.debug("Invalid JWT token: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             log.debug("JWT claims string is empty");
         }
-        return false;
+        return Optional.empty();
+    }
+
+    /**
+     * Get the token generation claim. Tokens issued before the claim existed count as generation 0.
+     */
+    public int extractTokenGeneration(Claims claims) {
+        Integer generation = claims.get(CLAIM_TOKEN_GENERATION, Integer.class);
+        return generation != null ? generation : 0;
     }
 
     /**
@@ -88,15 +154,22 @@ public class JwtService {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-            .verifyWith(getSigningKey())
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * Hash token using SHA-256.
+     */
+    static String hashToken(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
     private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signingKey;
     }
 }
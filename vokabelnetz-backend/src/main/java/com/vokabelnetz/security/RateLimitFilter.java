@@ -0,0 +1,181 @@
+package com.vokabelnetz.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vokabelnetz.config.AppProperties;
+import com.vokabelnetz.dto.response.ApiResponse;
+import com.vokabelnetz.dto.response.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user / per-IP rate limiting for route groups configured under app.rate-limit.
+ *
+ * Each bucket is a single AtomicLong holding the token bucket's theoretical
+ * arrival time (GCRA), so admitting a request is one CAS without locks.
+ * Buckets are keyed by route group and user ID (or client IP when anonymous)
+ * and live in a bounded map that drops idle entries.
+ */
+@Component
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final List<RouteLimit> routes = new ArrayList<>();
+    private final Cache<String, AtomicLong> buckets;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(AppProperties appProperties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        AppProperties.RateLimit config = appProperties.getRateLimit();
+        this.enabled = config.isEnabled();
+        this.objectMapper = objectMapper;
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(config.getMaxBuckets())
+            .expireAfterAccess(Duration.ofMinutes(config.getBucketIdleMinutes()))
+            .build();
+
+        for (Map.Entry<String, AppProperties.RateLimit.Route> entry : config.getRoutes().entrySet()) {
+            AppProperties.RateLimit.Route route = entry.getValue();
+            routes.add(new RouteLimit(
+                entry.getKey(),
+                route.getPaths().stream().map(PathPatternParser.defaultInstance::parse).toList(),
+                route.getCapacity(),
+                TimeUnit.MINUTES.toNanos(1) / Math.max(1, route.getRefillPerMinute()),
+                Counter.builder("vokabelnetz.ratelimit.throttled")
+                    .description("Requests rejected by the rate limiter")
+                    .tag("route", entry.getKey())
+                    .register(meterRegistry)
+            ));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(
+        @NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        RouteLimit route = enabled ? findRoute(request) : null;
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        AtomicLong bucket = buckets.get(route.name() + ":" + clientKey(request), key -> new AtomicLong());
+        long now = System.nanoTime();
+        long waitNanos = route.tryAcquire(bucket, now);
+
+        response.setHeader("X-RateLimit-Limit", String.valueOf(route.capacity()));
+        if (waitNanos > 0) {
+            route.throttled().increment();
+            long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+            log.debug("Rate limit exceeded for {} on {}", clientKey(request), route.name());
+            writeTooManyRequests(response, retryAfter);
+            return;
+        }
+
+        long fullInSeconds = TimeUnit.NANOSECONDS.toSeconds(Math.max(0, bucket.get() - now));
+        response.setHeader("X-RateLimit-Remaining", String.valueOf(route.remaining(bucket, now)));
+        response.setHeader("X-RateLimit-Reset", String.valueOf(Instant.now().getEpochSecond() + fullInSeconds));
+        filterChain.doFilter(request, response);
+    }
+
+    private RouteLimit findRoute(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getServletPath());
+        for (RouteLimit route : routes) {
+            for (PathPattern pattern : route.patterns()) {
+                if (pattern.matches(path)) {
+                    return route;
+                }
+            }
+        }
+        return null;
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return "u" + user.id();
+        }
+        // The remote address is resolved from X-Forwarded-For by Tomcat's RemoteIpValve, which only
+        // trusts hops listed in server.tomcat.remoteip.internal-proxies.
+        return "ip" + request.getRemoteAddr();
+    }
+
+    private void writeTooManyRequests(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        ErrorResponse error = new ErrorResponse("RATE_LIMIT_EXCEEDED", "Too many requests. Please try again later.");
+        error.setDetails(Map.of("retryAfter", retryAfterSeconds));
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(error));
+    }
+
+    /**
+     * Token bucket for one route group, expressed as GCRA: a request is admitted
+     * if the bucket's theoretical arrival time is at most {@code capacity - 1}
+     * intervals ahead of now.
+     */
+    private record RouteLimit(
+        String name,
+        List<PathPattern> patterns,
+        int capacity,
+        long intervalNanos,
+        Counter throttled
+    ) {
+
+        private long burstNanos() {
+            return (capacity - 1) * intervalNanos;
+        }
+
+        /**
+         * @return 0 if admitted, otherwise nanoseconds until a token is available
+         */
+        long tryAcquire(AtomicLong bucket, long now) {
+            while (true) {
+                long current = bucket.get();
+                // A fresh bucket (0) or one idle for longer than the burst starts full
+                long tat = current == 0 || current < now ? now : current;
+                long wait = tat - burstNanos() - now;
+                if (wait > 0) {
+                    return wait;
+                }
+                if (bucket.compareAndSet(current, tat + intervalNanos)) {
+                    return 0;
+                }
+            }
+        }
+
+        long remaining(AtomicLong bucket, long now) {
+            long ahead = Math.max(0, bucket.get() - now);
+            return Math.max(0, (burstNanos() + intervalNanos - ahead) / intervalNanos);
+        }
+    }
+}
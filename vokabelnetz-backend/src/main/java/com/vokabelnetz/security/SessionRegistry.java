@@ -0,0 +1,129 @@
+package com.vokabelnetz.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vokabelnetz.config.AppProperties;
+import com.vokabelnetz.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Per-user cache of active refresh-token sessions, newest first.
+ *
+ * Loaded from the database once per user and then kept up to date by the auth
+ * flows, so rotation and session-limit checks need no table scan. Entries expire
+ * after a fixed time to pick up sessions created on other instances, and are
+ * dropped when the surrounding transaction rolls back.
+ */
+@Component
+@Slf4j
+public class SessionRegistry {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Cache<Long, UserSessions> cache;
+
+    public SessionRegistry(RefreshTokenRepository refreshTokenRepository, AppProperties appProperties) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        AppProperties.Security security = appProperties.getSecurity();
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(security.getSessionRegistrySize())
+            .expireAfterWrite(Duration.ofMinutes(security.getSessionRegistryMinutes()))
+            .build();
+    }
+
+    public void sessionCreated(Long userId, ActiveSession session) {
+        sessions(userId).add(session);
+        invalidateOnRollback(userId);
+    }
+
+    public void sessionRevoked(Long userId, Long sessionId) {
+        UserSessions sessions = cache.getIfPresent(userId);
+        if (sessions != null) {
+            sessions.remove(sessionId);
+            invalidateOnRollback(userId);
+        }
+    }
+
+    /**
+     * Remove and return the sessions beyond the newest {@code maxSessions}.
+     */
+    public List<ActiveSession> trimToLimit(Long userId, int maxSessions) {
+        List<ActiveSession> removed = sessions(userId).trim(maxSessions, Instant.now());
+        if (!removed.isEmpty()) {
+            invalidateOnRollback(userId);
+        }
+        return removed;
+    }
+
+    /**
+     * Forget all of a user's sessions (logout-all, token reuse, password reset)
+     * and return the ones that were active.
+     */
+    public List<ActiveSession> removeAll(Long userId) {
+        UserSessions sessions = cache.asMap().remove(userId);
+        invalidateOnRollback(userId);
+        return sessions != null
+            ? sessions.snapshot()
+            : refreshTokenRepository.findActiveSessions(userId, Instant.now());
+    }
+
+    private UserSessions sessions(Long userId) {
+        return cache.get(userId, id -> new UserSessions(refreshTokenRepository.findActiveSessions(id, Instant.now())));
+    }
+
+    private void invalidateOnRollback(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        cache.invalidate(userId);
+                    }
+                }
+            });
+        }
+    }
+
+    private static final class UserSessions {
+
+        private final LinkedList<ActiveSession> sessions;
+
+        UserSessions(List<ActiveSession> newestFirst) {
+            this.sessions = new LinkedList<>(newestFirst);
+        }
+
+        synchronized void add(ActiveSession session) {
+            // The loader may already have seen a session created in this transaction
+            sessions.removeIf(existing -> existing.id().equals(session.id()));
+            sessions.addFirst(session);
+        }
+
+        synchronized void remove(Long sessionId) {
+            sessions.removeIf(session -> session.id().equals(sessionId));
+        }
+
+        synchronized List<ActiveSession> trim(int maxSessions, Instant now) {
+            sessions.removeIf(session -> session.isExpired(now));
+            List<ActiveSession> removed = new ArrayList<>();
+            Iterator<ActiveSession> oldestFirst = sessions.descendingIterator();
+            while (sessions.size() > maxSessions && oldestFirst.hasNext()) {
+                removed.add(oldestFirst.next());
+                oldestFirst.remove();
+            }
+            return removed;
+        }
+
+        synchronized List<ActiveSession> snapshot() {
+            return List.copyOf(sessions);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.vokabelnetz.security;
+
+import com.vokabelnetz.entity.enums.Role;
+
+/**
+ * The part of a user that decides whether an access token is still accepted.
+ */
+public record UserSecurityState(Boolean active, Role role, Integer tokenGeneration) {
+
+    public boolean isActive() {
+        return Boolean.TRUE.equals(active);
+    }
+
+    /**
+     * Tokens issued before the last generation bump are rejected.
+     */
+    public boolean accepts(int tokenGenerationClaim) {
+        return isActive() && tokenGenerationClaim >= (tokenGeneration != null ? tokenGeneration : 0);
+    }
+}
@@ -0,0 +1,104 @@
+package com.vokabelnetz.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vokabelnetz.config.AppProperties;
+import com.vokabelnetz.repository.TokenRevocationRepository;
+import com.vokabelnetz.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Per-user security state cache for JWT authentication.
+ *
+ * Keeps active flag, role and token generation in memory so a valid access
+ * token authenticates without a query. Entries are invalidated on the changes
+ * that must take effect immediately; the TTL bounds staleness for anything else.
+ */
+@Service
+@Slf4j
+public class UserSecurityStateService {
+
+    private final UserRepository userRepository;
+    private final TokenRevocationRepository revocationRepository;
+    private final AccessTokenDenylist denylist;
+    private final Cache<Long, Optional<UserSecurityState>> cache;
+
+    public UserSecurityStateService(
+        UserRepository userRepository,
+        TokenRevocationRepository revocationRepository,
+        AccessTokenDenylist denylist,
+        AppProperties appProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.userRepository = userRepository;
+        this.revocationRepository = revocationRepository;
+        this.denylist = denylist;
+        AppProperties.Security security = appProperties.getSecurity();
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(security.getSecurityStateCacheSize())
+            .expireAfterWrite(Duration.ofSeconds(security.getSecurityStateCacheSeconds()))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "security.user-state");
+    }
+
+    /**
+     * Get the security state, loading it on a cache miss.
+     * Deleted or unknown users are cached as empty too.
+     */
+    public Optional<UserSecurityState> getState(Long userId) {
+        return cache.get(userId, userRepository::findSecurityStateById);
+    }
+
+    /**
+     * Reject all access tokens issued so far for the user
+     * (logout-all, password change, deactivation), on every instance.
+     */
+    @Transactional
+    public void revokeAccessTokens(Long userId) {
+        Integer minGeneration = revocationRepository.revokeAndRecord(userId);
+        invalidate(userId);
+        if (minGeneration == null) {
+            return;
+        }
+
+        // Other instances pick the row up when polling; this one applies it on commit
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    denylist.revoke(userId, minGeneration, Instant.now());
+                }
+            });
+        } else {
+            denylist.revoke(userId, minGeneration, Instant.now());
+        }
+        log.debug("Access tokens revoked for user {}", userId);
+    }
+
+    /**
+     * Drop the cached state, e.g. after a role or status change.
+     * Runs after commit so a concurrent request cannot re-cache the old state.
+     */
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+}
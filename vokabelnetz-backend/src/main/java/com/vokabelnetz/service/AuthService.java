@@ -12,9 +12,13 @@ import com.vokabelnetz.exception.AuthenticationException;
 import com.vokabelnetz.exception.InvalidTokenException;
 import com.vokabelnetz.exception.TokenReusedException;
 import com.vokabelnetz.repository.RefreshTokenRepository;
+import com.vokabelnetz.repository.RefreshTokenRepository.ConsumedRefreshToken;
 import com.vokabelnetz.repository.UserPreferencesRepository;
 import com.vokabelnetz.repository.UserRepository;
+import com.vokabelnetz.security.ActiveSession;
 import com.vokabelnetz.security.JwtService;
+import com.vokabelnetz.security.SessionRegistry;
+import com.vokabelnetz.security.UserSecurityStateService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,10 +26,15 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Authentication service.
@@ -48,6 +57,8 @@ public class AuthService {
     private final EmailService emailService;
     private final EmailVerificationService emailVerificationService;
     private final SecurityAlertService securityAlertService;
+    private final UserSecurityStateService securityStateService;
+    private final SessionRegistry sessionRegistry;
 
     private static final SecureRandom secureRandom = new SecureRandom();
 
@@ -152,46 +163,24 @@ public class AuthService {
     /**
      * Refresh tokens with rotation.
      * Old token is ALWAYS revoked, new token is ALWAYS generated.
+     * On reuse the revocations must commit even though the call fails.
      */
-    @Transactional
+    @Transactional(noRollbackFor = TokenReusedException.class)
     public AuthResponse refreshTokens(String oldRefreshToken, HttpServletRequest httpRequest) {
-        RefreshToken storedToken = refreshTokenRepository.findByToken(oldRefreshToken)
-            .orElseThrow(() -> new InvalidTokenException("Invalid refresh token"));
+        byte[] tokenHash = hashToken(oldRefreshToken);
 
-        // Check if token was already revoked (potential theft!)
-        if (Boolean.TRUE.equals(storedToken.getIsRevoked())) {
-            log.warn("SECURITY: Refresh token reuse detected for user {}",
-                storedToken.getUser().getId());
-
-            // Send security alert
-            securityAlertService.sendTokenReuseAlert(
-                storedToken.getUser(),
-                storedToken.getIpAddress(),
-                storedToken.getUserAgent()
-            );
-
-            // Revoke ALL tokens for this user
-            refreshTokenRepository.revokeAllByUserId(
-                storedToken.getUser().getId(),
-                Instant.now(),
-                "TOKEN_REUSE_DETECTED"
-            );
+        // CRITICAL: Revoke old token immediately (single UPDATE)
+        Optional<ConsumedRefreshToken> consumed = consumeToken(tokenHash);
 
-            throw new TokenReusedException("Token has been revoked. All sessions terminated.");
-        }
-
-        // Check expiration
-        if (storedToken.isExpired()) {
-            throw new InvalidTokenException("Refresh token expired");
+        if (consumed.isEmpty()) {
+            consumed = handleUnusableToken(tokenHash);
         }
 
-        // CRITICAL: Revoke old token immediately
-        storedToken.setIsRevoked(true);
-        storedToken.setRevokedAt(Instant.now());
-        storedToken.setRevokedReason("ROTATION");
-        refreshTokenRepository.save(storedToken);
+        ConsumedRefreshToken oldToken = consumed.get();
+        sessionRegistry.sessionRevoked(oldToken.getUserId(), oldToken.getId());
 
-        User user = storedToken.getUser();
+        User user = userRepository.findById(oldToken.getUserId())
+            .orElseThrow(() -> new InvalidTokenException("Invalid refresh token"));
 
         // Generate new tokens
         String accessToken = jwtService.generateAccessToken(user);
@@ -215,12 +204,14 @@ public class AuthService {
      */
     @Transactional
     public void logout(String refreshToken) {
-        refreshTokenRepository.findByToken(refreshToken)
+        byte[] tokenHash = hashToken(refreshToken);
+        refreshTokenRepository.findByTokenHash(tokenHash)
             .ifPresent(token -> {
                 token.setIsRevoked(true);
                 token.setRevokedAt(Instant.now());
                 token.setRevokedReason("LOGOUT");
                 refreshTokenRepository.save(token);
+                sessionRegistry.sessionRevoked(token.getUser().getId(), token.getId());
                 log.debug("User logged out: {}", token.getUser().getId());
             });
     }
@@ -230,10 +221,62 @@ public class AuthService {
      */
     @Transactional
     public void logoutAll(Long userId) {
-        refreshTokenRepository.revokeAllByUserId(userId, Instant.now(), "LOGOUT_ALL");
+        revokeAllSessions(userId, "LOGOUT_ALL");
+        securityStateService.revokeAccessTokens(userId);
         log.info("User {} logged out from all devices", userId);
     }
 
+    /**
+     * Revoke every refresh token of a user and drop them from the session registry.
+     */
+    @Transactional
+    public void revokeAllSessions(Long userId, String reason) {
+        sessionRegistry.removeAll(userId);
+        refreshTokenRepository.revokeAllByUserId(userId, Instant.now(), reason);
+    }
+
+    private Optional<ConsumedRefreshToken> consumeToken(byte[] tokenHash) {
+        return refreshTokenRepository.consumeActive(tokenHash, Instant.now(), LocalDateTime.now(), "ROTATION");
+    }
+
+    /**
+     * Slow path when the token could not be rotated directly:
+     * it is unknown, expired or reused.
+     */
+    private Optional<ConsumedRefreshToken> handleUnusableToken(byte[] tokenHash) {
+        RefreshToken storedToken = refreshTokenRepository.findByTokenHash(tokenHash)
+            .orElseThrow(() -> new InvalidTokenException("Invalid refresh token"));
+
+        // Check if token was already revoked (potential theft!)
+        if (Boolean.TRUE.equals(storedToken.getIsRevoked())) {
+            log.warn("SECURITY: Refresh token reuse detected for user {}",
+                storedToken.getUser().getId());
+
+            // Send security alert
+            securityAlertService.sendTokenReuseAlert(
+                storedToken.getUser(),
+                storedToken.getIpAddress(),
+                storedToken.getUserAgent()
+            );
+
+            // Revoke ALL tokens for this user
+            revokeAllSessions(storedToken.getUser().getId(), "TOKEN_REUSE_DETECTED");
+            securityStateService.revokeAccessTokens(storedToken.getUser().getId());
+
+            throw new TokenReusedException("Token has been revoked. All sessions terminated.");
+        }
+
+        // Check expiration
+        if (storedToken.isExpired()) {
+            throw new InvalidTokenException("Refresh token expired");
+        }
+
+        // Neither revoked nor expired when read: consumeActive lost a race at the
+        // expiry boundary or with a concurrent change to the row, so try once more
+        return Optional.of(consumeToken(tokenHash)
+            .orElseThrow(() -> new InvalidTokenException("Invalid refresh token")));
+    }
+
     /**
      * Create a new refresh token.
      */
@@ -244,13 +287,16 @@ public class AuthService {
 
         RefreshToken refreshToken = RefreshToken.builder()
             .user(user)
-            .token(token)
+            .tokenHash(hashToken(token))
             .expiresAt(Instant.now().plusMillis(jwtProperties.getRefreshTokenExpiration()))
             .ipAddress(getClientIp(request))
             .userAgent(request.getHeader("User-Agent"))
             .build();
 
-        refreshTokenRepository.save(refreshToken);
+        refreshToken = refreshTokenRepository.save(refreshToken);
+        sessionRegistry.sessionCreated(user.getId(), new ActiveSession(
+            refreshToken.getId(), refreshToken.getTokenHash(), refreshToken.getExpiresAt()
+        ));
         return token;
     }
 
@@ -259,23 +305,31 @@ public class AuthService {
      */
     private void enforceSessionLimit(User user) {
         var config = appProperties.getSecurity();
-        var activeTokens = refreshTokenRepository.findActiveByUserId(user.getId(), Instant.now());
+        List<ActiveSession> excess = sessionRegistry.trimToLimit(user.getId(), config.getMaxActiveSessions());
 
-        if (activeTokens.size() > config.getMaxActiveSessions()) {
+        if (!excess.isEmpty()) {
             // Revoke oldest tokens
-            activeTokens.stream()
-                .skip(config.getMaxActiveSessions())
-                .forEach(token -> {
-                    token.setIsRevoked(true);
-                    token.setRevokedAt(Instant.now());
-                    token.setRevokedReason("SESSION_LIMIT");
-                    refreshTokenRepository.save(token);
-                });
+            refreshTokenRepository.revokeAllByIds(
+                excess.stream().map(ActiveSession::id).toList(),
+                Instant.now(),
+                "SESSION_LIMIT"
+            );
 
             log.debug("Session limit enforced for user {}", user.getId());
         }
     }
 
+    /**
+     * Hash a refresh token using SHA-256; only the digest is stored.
+     */
+    private byte[] hashToken(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 not available", e);
+        }
+    }
+
     private AuthResponse.UserDto mapToUserDto(User user) {
         return AuthResponse.UserDto.builder()
             .id(user.getId())
@@ -0,0 +1,130 @@
+package com.vokabelnetz.service;
+
+import com.vokabelnetz.config.AppProperties;
+import com.vokabelnetz.dto.response.CatalogChangesResponse;
+import com.vokabelnetz.entity.Word;
+import com.vokabelnetz.entity.WordChange;
+import com.vokabelnetz.entity.enums.WordChangeType;
+import com.vokabelnetz.repository.WordChangeRepository;
+import com.vokabelnetz.repository.WordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * Word catalog versioning for delta sync.
+ * Every content change (seeding, admin edit) bumps the catalog version and
+ * records which words changed, so offline clients only fetch the delta.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class CatalogVersionService {
+
+    private final WordChangeRepository wordChangeRepository;
+    private final WordRepository wordRepository;
+    private final AppProperties appProperties;
+
+    /**
+     * Record a set of changed words under a new catalog version.
+     *
+     * @return the new catalog version, or the current one if nothing changed
+     */
+    @Transactional
+    public long recordChanges(Collection<Long> wordIds, WordChangeType changeType) {
+        if (wordIds == null || wordIds.isEmpty()) {
+            return wordChangeRepository.findCurrentVersion();
+        }
+
+        wordChangeRepository.lockCatalogVersion();
+        long version = wordChangeRepository.nextCatalogVersion();
+
+        List<WordChange> changes = new ArrayList<>(wordIds.size());
+        for (Long wordId : new LinkedHashSet<>(wordIds)) {
+            changes.add(WordChange.builder()
+                .catalogVersion(version)
+                .wordId(wordId)
+                .changeType(changeType)
+                .build());
+        }
+        wordChangeRepository.saveAll(changes);
+
+        log.info("Catalog version {} recorded: {} words ({})", version, changes.size(), changeType);
+        return version;
+    }
+
+    /**
+     * Record a single changed word under a new catalog version.
+     */
+    @Transactional
+    public long recordChange(Long wordId, WordChangeType changeType) {
+        return recordChanges(List.of(wordId), changeType);
+    }
+
+    /**
+     * Get the current catalog version.
+     */
+    public long getCurrentVersion() {
+        return wordChangeRepository.findCurrentVersion();
+    }
+
+    /**
+     * Get all upserts and deactivations since the given catalog version.
+     * A word's current state decides whether it is reported as upsert or deactivation.
+     * A client without a version (since=0), with an unknown one, or so far behind that
+     * the delta would exceed app.catalog.max-delta-words gets fullResync instead,
+     * so the response stays bounded.
+     */
+    public CatalogChangesResponse getChangesSince(long since) {
+        long currentVersion = wordChangeRepository.findCurrentVersion();
+
+        if (since <= 0 || since > currentVersion) {
+            return fullResync(since, currentVersion);
+        }
+        if (since == currentVersion) {
+            return delta(since, currentVersion, List.of());
+        }
+
+        long changedCount = wordChangeRepository.countChangedWordIds(since, currentVersion);
+        if (changedCount > appProperties.getCatalog().getMaxDeltaWords()) {
+            log.debug("Catalog delta {}..{} has {} words, asking for full resync", since, currentVersion, changedCount);
+            return fullResync(since, currentVersion);
+        }
+
+        return delta(since, currentVersion, wordChangeRepository.findChangedWordIds(since, currentVersion));
+    }
+
+    private CatalogChangesResponse delta(long since, long currentVersion, List<Long> changedIds) {
+        List<Word> upserts = new ArrayList<>();
+        Set<Long> deactivations = new TreeSet<>(changedIds);
+
+        for (Word word : wordRepository.findAllById(changedIds)) {
+            if (Boolean.TRUE.equals(word.getIsActive())) {
+                upserts.add(word);
+                deactivations.remove(word.getId());
+            }
+        }
+
+        return CatalogChangesResponse.builder()
+            .since(since)
+            .currentVersion(currentVersion)
+            .fullResync(false)
+            .upserts(upserts)
+            .deactivations(new ArrayList<>(deactivations))
+            .build();
+    }
+
+    private CatalogChangesResponse fullResync(long since, long currentVersion) {
+        return CatalogChangesResponse.builder()
+            .since(since)
+            .currentVersion(currentVersion)
+            .fullResync(true)
+            .upserts(List.of())
+            .deactivations(List.of())
+            .build();
+    }
+}
@@ -118,14 +118,14 @@ public class DailyStatsService {
      * Get total stats for user.
      */
     public TotalStats getTotalStats(Long userId) {
-        Object[] result = dailyStatsRepository.getTotalStats(userId);
+        DailyStatsRepository.Totals totals = dailyStatsRepository.getTotalStats(userId);
         long activeDays = dailyStatsRepository.countActiveDays(userId);
 
         return new TotalStats(
-            ((Number) result[0]).longValue(),
-            ((Number) result[1]).longValue(),
-            ((Number) result[2]).longValue(),
-            ((Number) result[3]).longValue(),
+            totals.getWordsReviewed(),
+            totals.getWordsCorrect(),
+            totals.getNewWordsLearned(),
+            totals.getTotalTimeSeconds(),
             activeDays
         );
     }
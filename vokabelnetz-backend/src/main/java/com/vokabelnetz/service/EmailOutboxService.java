@@ -0,0 +1,95 @@
+package com.vokabelnetz.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes emails to the durable outbox (see EmailOutboxWorker for delivery).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxService {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO email_outbox (recipient, subject, body, category) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Email ready to be queued.
+     */
+    public record OutgoingEmail(String recipient, String subject, String body, String category) {}
+
+    /**
+     * Queue an email.
+     * Inside a (read-write) transaction the email is buffered and written with all
+     * other emails of that transaction in one JDBC batch right before commit, so it
+     * exists only if the transaction commits. Outside a transaction it is written at once.
+     */
+    public void enqueue(OutgoingEmail email) {
+        enqueueAll(List.of(email));
+    }
+
+    /**
+     * Queue several emails; written in one batch (see {@link #enqueue}).
+     */
+    public void enqueueAll(List<OutgoingEmail> emails) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+            || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            insert(emails);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<OutgoingEmail> buffer = (List<OutgoingEmail>) TransactionSynchronizationManager.getResource(this);
+        if (buffer == null) {
+            List<OutgoingEmail> transactionBuffer = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, transactionBuffer);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    insert(transactionBuffer);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(EmailOutboxService.this);
+                }
+            });
+            buffer = transactionBuffer;
+        }
+        buffer.addAll(emails);
+    }
+
+    private void insert(List<OutgoingEmail> emails) {
+        if (emails.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, emails, emails.size(), (statement, email) -> {
+            statement.setString(1, email.recipient());
+            statement.setString(2, email.subject());
+            statement.setString(3, email.body());
+            statement.setString(4, email.category());
+        });
+
+        for (OutgoingEmail email : emails) {
+            Counter.builder("vokabelnetz.email.enqueued")
+                .description("Emails written to the outbox")
+                .tag("category", email.category())
+                .register(meterRegistry)
+                .increment();
+        }
+        log.debug("Queued {} emails", emails.size());
+    }
+}
@@ -0,0 +1,245 @@
+package com.vokabelnetz.service;
+
+import com.vokabelnetz.entity.enums.UiLanguage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Precompiled, localized email templates.
+ *
+ * Templates under {@code resources/email} are parsed once at startup: {@code [[key]]}
+ * markers are replaced with texts from {@code messages_<lang>.properties}, the content
+ * is embedded into the shared layout, and the result is split into literal and
+ * parameter segments per {@link UiLanguage}. Identical literals (layout, CSS, footers)
+ * are shared by all variants. Rendering only appends segments to a per-thread buffer.
+ */
+@Component
+@Slf4j
+public class EmailTemplateRenderer {
+
+    /**
+     * Available templates and their parameters, in the order render() expects them.
+     * Parameters ending in "Html" are inserted unescaped; all others are HTML-escaped.
+     */
+    public enum Template {
+        PASSWORD_RESET("password-reset", "name", "url"),
+        PASSWORD_CHANGED("password-changed", "name"),
+        EMAIL_CHANGED("email-changed", "newEmail"),
+        ACCOUNT_DELETED("account-deleted", "name"),
+        WELCOME("welcome", "name", "url"),
+        EMAIL_VERIFICATION("email-verification", "name", "url"),
+        SECURITY_ALERT("security-alert", "subject", "contentHtml"),
+        STREAK_REMINDER("streak-reminder", "name", "streak", "url"),
+        WEEKLY_REPORT("weekly-report", "name", "wordsLearned", "wordsReviewed", "streak", "url");
+
+        private final String file;
+        private final List<String> parameters;
+
+        Template(String file, String... parameters) {
+            this.file = file;
+            this.parameters = List.of(parameters);
+        }
+    }
+
+    public record RenderedEmail(String subject, String body) {}
+
+    private sealed interface Segment permits Literal, Slot {}
+
+    private record Literal(String text) implements Segment {}
+
+    private record Slot(int index, boolean escape) implements Segment {}
+
+    /**
+     * One template in one language; defaults[i] is used when argument i is null.
+     */
+    private record CompiledTemplate(Segment[] subject, Segment[] body, String[] defaults) {}
+
+    private static final Pattern MESSAGE_KEY = Pattern.compile("\\[\\[([a-z0-9.-]+)]]");
+    private static final Pattern PARAMETER = Pattern.compile("\\{\\{([A-Za-z]+)}}");
+    private static final String BASE_PATH = "email/";
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+    // Buffers grown beyond this (e.g. by a huge security alert) are not kept
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private final Map<Template, Map<UiLanguage, CompiledTemplate>> templates = new EnumMap<>(Template.class);
+    private final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_BUFFER_SIZE));
+
+    public EmailTemplateRenderer() {
+        Map<String, String> literals = new HashMap<>();
+        String layout = read("layout.html");
+        Properties english = loadMessages(UiLanguage.EN, null);
+
+        for (UiLanguage language : UiLanguage.values()) {
+            Properties messages = language == UiLanguage.EN ? english : loadMessages(language, english);
+            Segment[] layoutSegments = compile(expandMessages(layout, messages), List.of("content"), true, literals);
+
+            for (Template template : Template.values()) {
+                Segment[] content = compile(
+                    expandMessages(read(template.file + ".html"), messages), template.parameters, true, literals);
+                Segment[] subject = compile(
+                    message(messages, template.file + ".subject"), template.parameters, false, literals);
+                String[] defaults = template.parameters.stream()
+                    .map(parameter -> messages.getProperty("default." + parameter, ""))
+                    .toArray(String[]::new);
+
+                templates.computeIfAbsent(template, key -> new EnumMap<>(UiLanguage.class))
+                    .put(language, new CompiledTemplate(subject, embed(layoutSegments, content), defaults));
+            }
+        }
+        log.info("Compiled {} email templates in {} languages ({} distinct literals)",
+            Template.values().length, UiLanguage.values().length, literals.size());
+    }
+
+    /**
+     * Render subject and body.
+     *
+     * @param language the recipient's language; null falls back to English
+     * @param args     values for the template's parameters, in declaration order
+     */
+    public RenderedEmail render(Template template, UiLanguage language, Object... args) {
+        if (args.length != template.parameters.size()) {
+            throw new IllegalArgumentException("Template " + template + " expects parameters " + template.parameters);
+        }
+        CompiledTemplate compiled = templates.get(template).get(language != null ? language : UiLanguage.EN);
+
+        StringBuilder buffer = buffers.get();
+        try {
+            String subject = write(buffer, compiled.subject(), compiled.defaults(), args);
+            String body = write(buffer, compiled.body(), compiled.defaults(), args);
+            return new RenderedEmail(subject, body);
+        } finally {
+            if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+                buffers.remove();
+            }
+        }
+    }
+
+    private String write(StringBuilder out, Segment[] segments, String[] defaults, Object[] args) {
+        out.setLength(0);
+        for (Segment segment : segments) {
+            switch (segment) {
+                case Literal(String text) -> out.append(text);
+                case Slot(int index, boolean escape) -> {
+                    Object value = args[index] != null ? args[index] : defaults[index];
+                    if (value instanceof Integer number) {
+                        out.append(number.intValue());
+                    } else if (escape) {
+                        appendEscaped(out, value.toString());
+                    } else {
+                        out.append(value);
+                    }
+                }
+            }
+        }
+        return out.toString();
+    }
+
+    private static void appendEscaped(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '&' -> out.append("&amp;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+
+    // ==================== Compilation ====================
+
+    private static String expandMessages(String text, Properties messages) {
+        Matcher matcher = MESSAGE_KEY.matcher(text);
+        StringBuilder result = new StringBuilder(text.length());
+        while (matcher.find()) {
+            matcher.appendReplacement(result, Matcher.quoteReplacement(message(messages, matcher.group(1))));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    private static Segment[] compile(String text, List<String> parameters, boolean html, Map<String, String> literals) {
+        List<Segment> segments = new ArrayList<>();
+        Matcher matcher = PARAMETER.matcher(text);
+        int start = 0;
+        while (matcher.find()) {
+            addLiteral(segments, text.substring(start, matcher.start()), literals);
+            String name = matcher.group(1);
+            int index = parameters.indexOf(name);
+            if (index < 0) {
+                throw new IllegalStateException("Unknown email template parameter {{" + name + "}}, expected one of " + parameters);
+            }
+            segments.add(new Slot(index, html && !name.endsWith("Html")));
+            start = matcher.end();
+        }
+        addLiteral(segments, text.substring(start), literals);
+        return segments.toArray(Segment[]::new);
+    }
+
+    private static void addLiteral(List<Segment> segments, String text, Map<String, String> literals) {
+        if (!text.isEmpty()) {
+            segments.add(new Literal(literals.computeIfAbsent(text, key -> key)));
+        }
+    }
+
+    /**
+     * Replace the layout's content slot with the template's segments.
+     * Layout literals stay separate segments so every template shares them.
+     */
+    private static Segment[] embed(Segment[] layout, Segment[] content) {
+        List<Segment> segments = new ArrayList<>(layout.length + content.length);
+        for (Segment segment : layout) {
+            if (segment instanceof Slot) {
+                segments.addAll(List.of(content));
+            } else {
+                segments.add(segment);
+            }
+        }
+        return segments.toArray(Segment[]::new);
+    }
+
+    private static String message(Properties messages, String key) {
+        String value = messages.getProperty(key);
+        if (value == null) {
+            throw new IllegalStateException("Missing email message '" + key + "'");
+        }
+        return value;
+    }
+
+    private static Properties loadMessages(UiLanguage language, Properties fallback) {
+        Properties messages = fallback != null ? new Properties(fallback) : new Properties();
+        String file = "messages_" + language.name().toLowerCase(Locale.ROOT) + ".properties";
+        try (Reader reader = new InputStreamReader(new ClassPathResource(BASE_PATH + file).getInputStream(), StandardCharsets.UTF_8)) {
+            messages.load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot load email messages " + file, e);
+        }
+        return messages;
+    }
+
+    private static String read(String file) {
+        try {
+            return new ClassPathResource(BASE_PATH + file).getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot load email template " + file, e);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.vokabelnetz.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vokabelnetz.config.AppProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Login attempt store for a single instance.
+ *
+ * Failures are indexed email -> IP -> one-minute buckets covering the lockout
+ * window. The index is weighted by tracked IPs and capped, so a credential
+ * stuffing run cannot grow it without limit, and the unique-IP count for an
+ * email is the size of its IP map after dropping expired IPs from the head.
+ */
+@Component
+@ConditionalOnProperty(name = "app.security.login-attempt-store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryLoginAttemptStore implements LoginAttemptStore {
+
+    private static final long BUCKET_MILLIS = 60_000;
+
+    private final int windowBuckets;
+    private final int maxIpsPerEmail;
+    private final Cache<String, EmailAttempts> attemptsByEmail;
+
+    public InMemoryLoginAttemptStore(AppProperties appProperties) {
+        var config = appProperties.getSecurity();
+        this.windowBuckets = Math.max(1, config.getLockoutMinutes());
+        this.maxIpsPerEmail = config.getLoginAttemptMaxIpsPerEmail();
+        this.attemptsByEmail = Caffeine.newBuilder()
+            .maximumWeight(config.getLoginAttemptMaxEntries())
+            .weigher((String email, EmailAttempts attempts) -> 1 + attempts.trackedIps())
+            .expireAfterAccess(Duration.ofMinutes(config.getLockoutMinutes()))
+            .build();
+    }
+
+    @Override
+    public FailureResult recordFailure(String email, String ipAddress, int maxAttempts, Duration lockout) {
+        long now = System.currentTimeMillis();
+        long lockoutMillis = lockout.toMillis();
+
+        FailureResult[] result = new FailureResult[1];
+        // compute() re-weighs the entry after the IP map changed
+        attemptsByEmail.asMap().compute(email, (key, existing) -> {
+            EmailAttempts attempts = existing != null ? existing : new EmailAttempts(windowBuckets, maxIpsPerEmail);
+            int count = attempts.recordFailure(ipAddress, now, maxAttempts, lockoutMillis);
+            result[0] = new FailureResult(count, attempts.uniqueIps(now, lockoutMillis));
+            return attempts;
+        });
+        return result[0];
+    }
+
+    @Override
+    public boolean isLocked(String email, String ipAddress) {
+        EmailAttempts attempts = attemptsByEmail.getIfPresent(email);
+        return attempts != null && attempts.isLocked(ipAddress, System.currentTimeMillis());
+    }
+
+    @Override
+    public void clear(String email, String ipAddress) {
+        attemptsByEmail.asMap().computeIfPresent(email, (key, attempts) ->
+            attempts.clear(ipAddress) ? null : attempts
+        );
+    }
+
+    @Override
+    public void evictExpired() {
+        attemptsByEmail.cleanUp();
+    }
+
+    /**
+     * Failed attempts for one email, per IP. An IP moves to the tail on each
+     * failure, so the least recently failing ones sit at the head.
+     */
+    private static final class EmailAttempts {
+
+        private final int windowBuckets;
+        private final LinkedHashMap<String, IpCounter> ips;
+
+        EmailAttempts(int windowBuckets, int maxIps) {
+            this.windowBuckets = windowBuckets;
+            this.ips = new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, IpCounter> eldest) {
+                    return size() > maxIps;
+                }
+            };
+        }
+
+        synchronized int recordFailure(String ip, long now, int maxAttempts, long lockoutMillis) {
+            IpCounter counter = ips.remove(ip);
+            if (counter == null) {
+                counter = new IpCounter(windowBuckets);
+            }
+            ips.put(ip, counter);
+            int count = counter.increment(now);
+            if (count >= maxAttempts) {
+                counter.lockedUntil = now + lockoutMillis;
+            }
+            return count;
+        }
+
+        synchronized boolean isLocked(String ip, long now) {
+            IpCounter counter = ips.get(ip);
+            return counter != null && counter.lockedUntil > now;
+        }
+
+        /**
+         * Drop expired IPs from the head, then count. Each IP is dropped once,
+         * so the cost is amortised over the failures that added it.
+         */
+        synchronized int uniqueIps(long now, long windowMillis) {
+            Iterator<IpCounter> it = ips.values().iterator();
+            while (it.hasNext()) {
+                IpCounter counter = it.next();
+                if (counter.lastFailure > now - windowMillis) {
+                    break;
+                }
+                it.remove();
+            }
+            return ips.size();
+        }
+
+        /**
+         * @return true if no IPs are left
+         */
+        synchronized boolean clear(String ip) {
+            ips.remove(ip);
+            return ips.isEmpty();
+        }
+
+        synchronized int trackedIps() {
+            return ips.size();
+        }
+    }
+
+    /**
+     * Sliding-window failure counter with one-minute buckets.
+     */
+    private static final class IpCounter {
+
+        private final int[] counts;
+        private final long[] bucketIds;
+        private long lastFailure;
+        private long lockedUntil;
+
+        IpCounter(int windowBuckets) {
+            this.counts = new int[windowBuckets];
+            this.bucketIds = new long[windowBuckets];
+        }
+
+        int increment(long now) {
+            long bucketId = now / BUCKET_MILLIS;
+            int slot = (int) (bucketId % counts.length);
+            if (bucketIds[slot] != bucketId) {
+                bucketIds[slot] = bucketId;
+                counts[slot] = 0;
+            }
+            counts[slot]++;
+            lastFailure = now;
+
+            int total = 0;
+            for (int i = 0; i < counts.length; i++) {
+                if (bucketIds[i] > bucketId - counts.length) {
+                    total += counts[i];
+                }
+            }
+            return total;
+        }
+    }
+}
@@ -12,10 +12,13 @@ import com.vokabelnetz.entity.Word;
 import com.vokabelnetz.entity.enums.CefrLevel;
 import com.vokabelnetz.entity.enums.SessionType;
 import com.vokabelnetz.exception.ResourceNotFoundException;
+import com.vokabelnetz.monitoring.AnswerProcessedEvent;
 import com.vokabelnetz.repository.LearningSessionRepository;
 import com.vokabelnetz.repository.UserWordProgressRepository;
 import com.vokabelnetz.repository.WordRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -28,9 +31,11 @@ import java.util.Objects;
 /**
  * Main learning service that orchestrates SM-2, Elo, and Streak systems.
  * Based on ALGORITHMS.md documentation.
+ *
+ * The hot paths are timed as {@code vokabelnetz.learning} (tag {@code operation});
+ * answers are counted per SM-2 quality and emitted as JFR AnswerProcessed events.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
 public class LearningService {
@@ -42,12 +47,53 @@ public class LearningService {
     private final WordRepository wordRepository;
     private final UserWordProgressRepository progressRepository;
     private final LearningSessionRepository sessionRepository;
+    private final Timer answerTimer;
+    private final Timer nextWordTimer;
+    private final Timer sessionStartTimer;
+    private final Timer sessionEndTimer;
+    private final Counter[] answersByQuality = new Counter[6];
+
+    public LearningService(
+        SpacedRepetitionService sm2Service,
+        EloRatingService eloService,
+        StreakService streakService,
+        DailyStatsService statsService,
+        WordRepository wordRepository,
+        UserWordProgressRepository progressRepository,
+        LearningSessionRepository sessionRepository,
+        MeterRegistry meterRegistry
+    ) {
+        this.sm2Service = sm2Service;
+        this.eloService = eloService;
+        this.streakService = streakService;
+        this.statsService = statsService;
+        this.wordRepository = wordRepository;
+        this.progressRepository = progressRepository;
+        this.sessionRepository = sessionRepository;
+        this.answerTimer = learningTimer("answer", meterRegistry);
+        this.nextWordTimer = learningTimer("next-word", meterRegistry);
+        this.sessionStartTimer = learningTimer("session-start", meterRegistry);
+        this.sessionEndTimer = learningTimer("session-end", meterRegistry);
+        for (int quality = 0; quality < answersByQuality.length; quality++) {
+            answersByQuality[quality] = Counter.builder("vokabelnetz.learning.answers")
+                .description("Answers processed, by SM-2 quality (0-2 incorrect or hinted, 3-5 correct)")
+                .tag("quality", String.valueOf(quality))
+                .register(meterRegistry);
+        }
+    }
 
     /**
      * Process a user's answer to a word.
      */
     @Transactional
     public AnswerResult processAnswer(User user, Long wordId, AnswerRequest request) {
+        return answerTimer.record(() -> applyAnswer(user, wordId, request));
+    }
+
+    private AnswerResult applyAnswer(User user, Long wordId, AnswerRequest request) {
+        AnswerProcessedEvent event = new AnswerProcessedEvent();
+        event.begin();
+
         Word word = wordRepository.findById(wordId)
             .orElseThrow(() -> new ResourceNotFoundException("Word", wordId));
 
@@ -63,11 +109,15 @@ public class LearningService {
 
         boolean correct = request.isCorrect();
         int quality = mapToQuality(request);
+        answersByQuality[quality].increment();
 
         // 1. Update Elo ratings
+        long stageStarted = System.nanoTime();
         var eloResult = eloService.updateRatings(user, word, correct);
+        event.eloDuration = System.nanoTime() - stageStarted;
 
         // 2. Update SM-2 scheduling
+        stageStarted = System.nanoTime();
         progress = sm2Service.calculateNextReview(progress, quality);
         progress.setTimesCorrect(progress.getTimesCorrect() + (correct ? 1 : 0));
         progress.setTimesIncorrect(progress.getTimesIncorrect() + (correct ? 0 : 1));
@@ -84,9 +134,12 @@ public class LearningService {
         }
 
         progressRepository.save(progress);
+        event.sm2Duration = System.nanoTime() - stageStarted;
 
         // 3. Update daily stats
+        stageStarted = System.nanoTime();
         statsService.recordAnswer(user.getId(), correct, request.getResponseTimeMs());
+        event.statsDuration = System.nanoTime() - stageStarted;
 
         // 4. Update word global stats
         word.setTimesShown(word.getTimesShown() + 1);
@@ -96,7 +149,18 @@ public class LearningService {
         wordRepository.save(word);
 
         // 5. Get streak status
+        stageStarted = System.nanoTime();
         var streakStatus = streakService.getStreakStatus(user);
+        event.streakDuration = System.nanoTime() - stageStarted;
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.userId = user.getId();
+            event.wordId = wordId;
+            event.quality = quality;
+            event.correct = correct;
+            event.commit();
+        }
 
         log.debug("Answer processed: user={}, word={}, correct={}, quality={}, newInterval={}",
             user.getId(), wordId, correct, quality, progress.getIntervalDays());
@@ -120,6 +184,10 @@ public class LearningService {
      * Get next word for learning.
      */
     public NextWordResult getNextWord(User user, CefrLevel cefrLevel) {
+        return nextWordTimer.record(() -> selectNextWord(user, cefrLevel));
+    }
+
+    private NextWordResult selectNextWord(User user, CefrLevel cefrLevel) {
         // Priority 1: Due review words
         List<UserWordProgress> dueWords = sm2Service.getWordsForReview(user.getId(), 10);
 
@@ -176,6 +244,10 @@ public class LearningService {
      */
     @Transactional
     public LearningSession startSession(User user, SessionType sessionType, CefrLevel cefrLevel) {
+        return sessionStartTimer.record(() -> openSession(user, sessionType, cefrLevel));
+    }
+
+    private LearningSession openSession(User user, SessionType sessionType, CefrLevel cefrLevel) {
         // End any existing active session
         sessionRepository.findByUserIdAndEndedAtIsNull(user.getId())
             .ifPresent(session -> {
@@ -198,6 +270,10 @@ public class LearningService {
      */
     @Transactional
     public LearningSession endSession(Long sessionId) {
+        return sessionEndTimer.record(() -> closeSession(sessionId));
+    }
+
+    private LearningSession closeSession(Long sessionId) {
         LearningSession session = sessionRepository.findById(sessionId)
             .orElseThrow(() -> new ResourceNotFoundException("LearningSession", sessionId));
 
@@ -307,4 +383,11 @@ public class LearningService {
         if (responseMs < 5000) return 4;      // 2-5s = good
         return 3;                              // > 5s = difficult
     }
+
+    private static Timer learningTimer(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder("vokabelnetz.learning")
+            .description("Time spent in the learning hot paths (inside the transaction)")
+            .tag("operation", operation)
+            .register(meterRegistry);
+    }
 }
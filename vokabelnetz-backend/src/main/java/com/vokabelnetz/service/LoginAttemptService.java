@@ -3,56 +3,56 @@ package com.vokabelnetz.service;
 import com.vokabelnetz.config.AppProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.time.Instant;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.time.Duration;
 
 /**
  * Login attempt tracking service for brute force protection.
  * Based on SECURITY.md documentation.
+ *
+ * Attempts are kept in a {@link LoginAttemptStore}; use the postgres store
+ * when running more than one replica so limits apply cluster-wide.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class LoginAttemptService {
 
-    private final AppProperties appProperties;
-    private final SecurityAlertService securityAlertService;
-
-    // In-memory cache (use Redis in production for distributed deployments)
-    private final Map<String, AttemptInfo> attemptsCache = new ConcurrentHashMap<>();
-
     // Threshold for distributed attack detection (unique IPs per email)
     private static final int DISTRIBUTED_ATTACK_THRESHOLD = 5;
 
+    // Matches login_attempts.ip_address
+    private static final int MAX_IP_LENGTH = 50;
+
+    private final AppProperties appProperties;
+    private final SecurityAlertService securityAlertService;
+    private final LoginAttemptStore attemptStore;
+
     /**
      * Record a failed login attempt.
      */
     public void recordFailedAttempt(String email, String ipAddress) {
-        String key = createKey(email, ipAddress);
         var config = appProperties.getSecurity();
 
-        AttemptInfo info = attemptsCache.compute(key, (k, existing) -> {
-            if (existing == null) {
-                return new AttemptInfo(1, Instant.now());
-            }
-            return new AttemptInfo(existing.attempts + 1, Instant.now());
-        });
+        LoginAttemptStore.FailureResult result = attemptStore.recordFailure(
+            normalizeEmail(email),
+            normalizeIp(ipAddress),
+            config.getMaxLoginAttempts(),
+            Duration.ofMinutes(config.getLockoutMinutes())
+        );
 
         // Check for account lockout
-        if (info.attempts == config.getMaxLoginAttempts()) {
-            log.warn("SECURITY: Account locked due to {} failed attempts. Key: {}",
-                info.attempts, key);
-            securityAlertService.sendAccountLockoutAlert(email, ipAddress, info.attempts);
+        if (result.attempts() == config.getMaxLoginAttempts()) {
+            log.warn("SECURITY: Account locked due to {} failed attempts. Key: {}:{}",
+                result.attempts(), normalizeEmail(email), ipAddress);
+            securityAlertService.sendAccountLockoutAlert(email, ipAddress, result.attempts());
         }
 
         // Check for distributed attack (multiple IPs trying same email)
-        int uniqueIps = countUniqueIpsForEmail(email);
-        if (uniqueIps >= DISTRIBUTED_ATTACK_THRESHOLD) {
-            securityAlertService.sendDistributedAttackAlert(email, uniqueIps);
+        if (result.uniqueIps() >= DISTRIBUTED_ATTACK_THRESHOLD) {
+            securityAlertService.sendDistributedAttackAlert(email, result.uniqueIps());
         }
     }
 
@@ -60,48 +60,32 @@ public class LoginAttemptService {
      * Check if login is allowed.
      */
     public boolean isLoginAllowed(String email, String ipAddress) {
-        String key = createKey(email, ipAddress);
-        var config = appProperties.getSecurity();
-
-        AttemptInfo info = attemptsCache.get(key);
-        if (info == null) {
-            return true;
-        }
-
-        // Check if lockout period has passed
-        Instant lockoutEnd = info.lastAttempt.plusSeconds(config.getLockoutMinutes() * 60L);
-        if (Instant.now().isAfter(lockoutEnd)) {
-            attemptsCache.remove(key);
-            return true;
-        }
-
-        return info.attempts < config.getMaxLoginAttempts();
+        return !attemptStore.isLocked(normalizeEmail(email), normalizeIp(ipAddress));
     }
 
     /**
      * Record a successful login (clear attempts).
      */
     public void recordSuccessfulLogin(String email, String ipAddress) {
-        String key = createKey(email, ipAddress);
-        attemptsCache.remove(key);
-    }
-
-    private String createKey(String email, String ipAddress) {
-        return email.toLowerCase() + ":" + ipAddress;
+        attemptStore.clear(normalizeEmail(email), normalizeIp(ipAddress));
     }
 
     /**
-     * Count unique IPs that have attempted to login with the same email.
-     * Used for distributed attack detection.
+     * Release expired entries without waiting for the next access.
      */
-    private int countUniqueIpsForEmail(String email) {
-        String emailPrefix = email.toLowerCase() + ":";
-        return (int) attemptsCache.keySet().stream()
-            .filter(key -> key.startsWith(emailPrefix))
-            .map(key -> key.substring(emailPrefix.length()))
-            .distinct()
-            .count();
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        attemptStore.evictExpired();
+    }
+
+    private String normalizeEmail(String email) {
+        return email.toLowerCase();
     }
 
-    private record AttemptInfo(int attempts, Instant lastAttempt) {}
+    private String normalizeIp(String ipAddress) {
+        if (ipAddress == null) {
+            return "unknown";
+        }
+        return ipAddress.length() > MAX_IP_LENGTH ? ipAddress.substring(0, MAX_IP_LENGTH) : ipAddress;
+    }
 }
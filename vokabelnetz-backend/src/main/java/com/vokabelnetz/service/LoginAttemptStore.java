@@ -0,0 +1,41 @@
+package com.vokabelnetz.service;
+
+import java.time.Duration;
+
+/**
+ * Storage for failed login attempts, keyed by email and IP.
+ *
+ * Selected with {@code app.security.login-attempt-store}: {@code memory}
+ * (single instance) or {@code postgres} (shared by all replicas).
+ */
+public interface LoginAttemptStore {
+
+    /**
+     * Outcome of recording a failure.
+     *
+     * @param attempts  failures for this email/IP within the lockout window
+     * @param uniqueIps IPs with failures for this email within the window
+     */
+    record FailureResult(int attempts, int uniqueIps) {}
+
+    /**
+     * Record a failure. Failures older than {@code lockout} no longer count;
+     * reaching {@code maxAttempts} locks the email/IP pair for {@code lockout}.
+     */
+    FailureResult recordFailure(String email, String ipAddress, int maxAttempts, Duration lockout);
+
+    /**
+     * Check whether the email/IP pair is currently locked.
+     */
+    boolean isLocked(String email, String ipAddress);
+
+    /**
+     * Forget failures for the email/IP pair (successful login).
+     */
+    void clear(String email, String ipAddress);
+
+    /**
+     * Remove expired entries.
+     */
+    void evictExpired();
+}
@@ -0,0 +1,160 @@
+package com.vokabelnetz.service;
+
+import com.vokabelnetz.config.AppProperties;
+import com.vokabelnetz.exception.BadRequestException;
+import com.vokabelnetz.exception.ResourceNotFoundException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Local content-addressed media store for word audio and images.
+ *
+ * Files are stored as {@code <root>/<h0h1>/<h2h3>/<sha256>.<ext>}. The key
+ * ({@code <sha256>.<ext>}) never changes for a given content, so responses
+ * can be cached forever and the hash doubles as a strong ETag.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MediaStorageService {
+
+    // Only formats browsers play or render inline; SVG is excluded (scriptable)
+    private static final Map<String, MediaType> ALLOWED_TYPES = Map.of(
+        "mp3", MediaType.parseMediaType("audio/mpeg"),
+        "ogg", MediaType.parseMediaType("audio/ogg"),
+        "m4a", MediaType.parseMediaType("audio/mp4"),
+        "wav", MediaType.parseMediaType("audio/wav"),
+        "webm", MediaType.parseMediaType("audio/webm"),
+        "png", MediaType.IMAGE_PNG,
+        "jpg", MediaType.IMAGE_JPEG,
+        "webp", MediaType.parseMediaType("image/webp")
+    );
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("^[0-9a-f]{64}\\.[a-z0-9]{1,5}$");
+
+    private final AppProperties appProperties;
+
+    private Path root;
+
+    /**
+     * Stored media file.
+     */
+    public record StoredMedia(String key, String hash, Path path, MediaType mediaType, long size) {}
+
+    @PostConstruct
+    void init() {
+        root = Paths.get(appProperties.getMedia().getPath()).toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(root.resolve("tmp"));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create media directory " + root, e);
+        }
+        log.info("Media store at {}", root);
+    }
+
+    /**
+     * Store content, hashing it while it is written. Identical content is stored once.
+     *
+     * @param originalFilename used only to pick the extension
+     */
+    public StoredMedia store(InputStream content, String originalFilename) {
+        String extension = extensionOf(originalFilename);
+        if (extension.equals("jpeg")) {
+            extension = "jpg";
+        }
+        if (!ALLOWED_TYPES.containsKey(extension)) {
+            throw new BadRequestException("Unsupported media type: " + extension, "UNSUPPORTED_MEDIA_TYPE");
+        }
+
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(root.resolve("tmp"), "upload-", ".part");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long size;
+            try (DigestInputStream in = new DigestInputStream(content, digest)) {
+                size = Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            if (size == 0) {
+                throw new BadRequestException("Empty file");
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String key = hash + "." + extension;
+            Path target = pathFor(key);
+
+            if (Files.exists(target)) {
+                log.debug("Media {} already stored", key);
+            } else {
+                Files.createDirectories(target.getParent());
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                log.info("Stored media {} ({} bytes)", key, size);
+            }
+            return new StoredMedia(key, hash, target, ALLOWED_TYPES.get(extension), size);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store media", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    /**
+     * Look up a stored file by key.
+     */
+    public StoredMedia load(String key) {
+        if (key == null || !KEY_PATTERN.matcher(key).matches()) {
+            throw new ResourceNotFoundException("Media not found");
+        }
+        String extension = extensionOf(key);
+        MediaType mediaType = ALLOWED_TYPES.get(extension);
+        Path path = pathFor(key);
+        if (mediaType == null || !Files.isRegularFile(path)) {
+            throw new ResourceNotFoundException("Media not found");
+        }
+
+        try {
+            return new StoredMedia(key, key.substring(0, 64), path, mediaType, Files.size(path));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read media " + key, e);
+        }
+    }
+
+    private Path pathFor(String key) {
+        return root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+    }
+
+    private static String extensionOf(String filename) {
+        if (filename == null) {
+            return "";
+        }
+        int dot = filename.lastIndexOf('.');
+        return dot < 0 ? "" : filename.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete temp file {}", path);
+        }
+    }
+}
@@ -3,9 +3,9 @@ package com.vokabelnetz.service;
 import com.vokabelnetz.entity.PasswordHistory;
 import com.vokabelnetz.entity.User;
 import com.vokabelnetz.repository.PasswordHistoryRepository;
+import com.vokabelnetz.security.BoundedPasswordEncoder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,7 +22,7 @@ import java.util.List;
 public class PasswordHistoryService {
 
     private final PasswordHistoryRepository passwordHistoryRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final BoundedPasswordEncoder passwordEncoder;
 
     /**
      * Number of previous passwords to check against.
@@ -42,14 +42,16 @@ public class PasswordHistoryService {
         List<PasswordHistory> recentPasswords = passwordHistoryRepository
             .findRecentByUserId(user.getId(), PASSWORD_HISTORY_COUNT);
 
-        for (PasswordHistory history : recentPasswords) {
-            if (passwordEncoder.matches(rawPassword, history.getPasswordHash())) {
-                log.debug("Password reuse detected for user: {}", user.getId());
-                return true;
-            }
+        // Hashes are verified in parallel on the hashing pool; the first match wins
+        boolean used = passwordEncoder.matchesAny(
+            rawPassword,
+            recentPasswords.stream().map(PasswordHistory::getPasswordHash).toList()
+        );
+        if (used) {
+            log.debug("Password reuse detected for user: {}", user.getId());
         }
 
-        return false;
+        return used;
     }
 
     /**
@@ -6,8 +6,8 @@ import com.vokabelnetz.entity.User;
 import com.vokabelnetz.exception.BadRequestException;
 import com.vokabelnetz.exception.InvalidTokenException;
 import com.vokabelnetz.repository.PasswordResetTokenRepository;
-import com.vokabelnetz.repository.RefreshTokenRepository;
 import com.vokabelnetz.repository.UserRepository;
+import com.vokabelnetz.security.UserSecurityStateService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,10 +38,11 @@ public class PasswordResetService {
 
     private final UserRepository userRepository;
     private final PasswordResetTokenRepository tokenRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final AuthService authService;
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
     private final MailProperties mailProperties;
+    private final UserSecurityStateService securityStateService;
 
     private static final SecureRandom secureRandom = new SecureRandom();
     private static final int TOKEN_EXPIRY_HOURS = 1;
@@ -128,7 +129,8 @@ public class PasswordResetService {
         tokenRepository.save(resetToken);
 
         // Revoke all refresh tokens (security: force re-login)
-        refreshTokenRepository.revokeAllByUserId(user.getId(), Instant.now(), "PASSWORD_RESET");
+        authService.revokeAllSessions(user.getId(), "PASSWORD_RESET");
+        securityStateService.revokeAccessTokens(user.getId());
 
         // Send notification email
         emailService.sendPasswordChangedNotification(user);
@@ -0,0 +1,153 @@
+package com.vokabelnetz.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.vokabelnetz.config.AppProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Login attempt store shared by all replicas, in the UNLOGGED
+ * login_attempts table (see V10).
+ *
+ * Each failure is one upsert that also returns the unique-IP count. Lock
+ * checks go through a near-cache: locks are cached until they end, and
+ * "not locked" for a few seconds, so the common check needs no query. A lock
+ * set by another replica takes effect here within that TTL.
+ */
+@Component
+@ConditionalOnProperty(name = "app.security.login-attempt-store", havingValue = "postgres")
+@Slf4j
+public class PostgresLoginAttemptStore implements LoginAttemptStore {
+
+    private static final Instant NOT_LOCKED = Instant.EPOCH;
+    private static final int EVICTION_BATCH_SIZE = 5000;
+
+    private static final String RECORD_FAILURE_SQL = """
+        WITH up AS (
+            INSERT INTO login_attempts AS la (email, ip_address, attempts, last_failure, locked_until)
+            VALUES (:email, :ip, 1, now(),
+                    CASE WHEN 1 >= :maxAttempts THEN now() + :lockoutSeconds * interval '1 second' END)
+            ON CONFLICT (email, ip_address) DO UPDATE SET
+                attempts = CASE
+                    WHEN la.last_failure > now() - :lockoutSeconds * interval '1 second' THEN la.attempts + 1
+                    ELSE 1 END,
+                last_failure = now(),
+                locked_until = CASE
+                    WHEN la.last_failure > now() - :lockoutSeconds * interval '1 second'
+                         AND la.attempts + 1 >= :maxAttempts THEN now() + :lockoutSeconds * interval '1 second'
+                    ELSE la.locked_until END
+            RETURNING attempts, locked_until
+        )
+        SELECT up.attempts, up.locked_until,
+               1 + (SELECT count(*) FROM login_attempts
+                    WHERE email = :email
+                    AND ip_address <> :ip
+                    AND last_failure > now() - :lockoutSeconds * interval '1 second') AS unique_ips
+        FROM up
+        """;
+
+    private static final String FIND_LOCK_SQL = """
+        SELECT locked_until FROM login_attempts
+        WHERE email = :email AND ip_address = :ip AND locked_until > now()
+        """;
+
+    private static final String CLEAR_SQL = """
+        DELETE FROM login_attempts WHERE email = :email AND ip_address = :ip
+        """;
+
+    private static final String EVICT_SQL = """
+        DELETE FROM login_attempts
+        WHERE ctid = ANY(ARRAY(
+            SELECT ctid FROM login_attempts
+            WHERE last_failure < now() - :lockoutSeconds * interval '1 second'
+            AND (locked_until IS NULL OR locked_until < now())
+            LIMIT :batchSize
+        ))
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final AppProperties appProperties;
+    private final Cache<String, Instant> nearCache;
+
+    public PostgresLoginAttemptStore(NamedParameterJdbcTemplate jdbcTemplate, AppProperties appProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.appProperties = appProperties;
+        Duration negativeTtl = Duration.ofSeconds(appProperties.getSecurity().getLoginAttemptNearCacheSeconds());
+        this.nearCache = Caffeine.newBuilder()
+            .maximumSize(appProperties.getSecurity().getLoginAttemptMaxEntries())
+            .expireAfter(Expiry.creating((String key, Instant lockedUntil) ->
+                lockedUntil.equals(NOT_LOCKED) ? negativeTtl : Duration.between(Instant.now(), lockedUntil)))
+            .build();
+    }
+
+    @Override
+    public FailureResult recordFailure(String email, String ipAddress, int maxAttempts, Duration lockout) {
+        MapSqlParameterSource params = params(email, ipAddress)
+            .addValue("maxAttempts", maxAttempts)
+            .addValue("lockoutSeconds", lockout.toSeconds());
+
+        return jdbcTemplate.queryForObject(RECORD_FAILURE_SQL, params, (rs, rowNum) -> {
+            Timestamp lockedUntil = rs.getTimestamp("locked_until");
+            boolean locked = lockedUntil != null && lockedUntil.toInstant().isAfter(Instant.now());
+            nearCache.put(key(email, ipAddress), locked ? lockedUntil.toInstant() : NOT_LOCKED);
+            return new FailureResult(rs.getInt("attempts"), rs.getInt("unique_ips"));
+        });
+    }
+
+    @Override
+    public boolean isLocked(String email, String ipAddress) {
+        Instant lockedUntil = nearCache.get(key(email, ipAddress), key -> {
+            List<Timestamp> locks = jdbcTemplate.queryForList(FIND_LOCK_SQL, params(email, ipAddress), Timestamp.class);
+            return locks.isEmpty() ? NOT_LOCKED : locks.getFirst().toInstant();
+        });
+        return lockedUntil.isAfter(Instant.now());
+    }
+
+    @Override
+    public void clear(String email, String ipAddress) {
+        jdbcTemplate.update(CLEAR_SQL, params(email, ipAddress));
+        nearCache.put(key(email, ipAddress), NOT_LOCKED);
+    }
+
+    /**
+     * Delete expired rows in batches, so one run never holds locks on the whole table.
+     */
+    @Override
+    public void evictExpired() {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("lockoutSeconds", appProperties.getSecurity().getLockoutMinutes() * 60L)
+            .addValue("batchSize", EVICTION_BATCH_SIZE);
+
+        int total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(EVICT_SQL, params);
+            total += deleted;
+        } while (deleted == EVICTION_BATCH_SIZE);
+
+        if (total > 0) {
+            log.debug("Evicted {} expired login attempt rows", total);
+        }
+        nearCache.cleanUp();
+    }
+
+    private static MapSqlParameterSource params(String email, String ipAddress) {
+        return new MapSqlParameterSource()
+            .addValue("email", email)
+            .addValue("ip", ipAddress);
+    }
+
+    private static String key(String email, String ipAddress) {
+        return email + '\n' + ipAddress;
+    }
+}
@@ -71,7 +71,7 @@ public class ProgressService {
         // Level progress
         Map<String, Object> levelProgress = new LinkedHashMap<>();
         for (CefrLevel level : CefrLevel.values()) {
-            Map<String, Object> levelInfo = getLevelProgress(user, level);
+            Map<String, Object> levelInfo = levelProgress(allProgress, level);
             levelProgress.put(level.name(), levelInfo);
         }
 
@@ -144,8 +144,11 @@ public class ProgressService {
      * Get progress for a CEFR level.
      */
     public Map<String, Object> getLevelProgress(User user, CefrLevel level) {
+        return levelProgress(progressRepository.findByUserId(user.getId()), level);
+    }
+
+    private Map<String, Object> levelProgress(List<UserWordProgress> userProgress, CefrLevel level) {
         long total = wordRepository.countByCefrLevel(level);
-        List<UserWordProgress> userProgress = progressRepository.findByUserId(user.getId());
 
         long learned = userProgress.stream()
             .filter(p -> p.getWord().getCefrLevel() == level && Boolean.TRUE.equals(p.getIsLearned()))
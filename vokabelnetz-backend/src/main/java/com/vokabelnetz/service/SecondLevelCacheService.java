@@ -0,0 +1,123 @@
+package com.vokabelnetz.service;
+
+import com.vokabelnetz.config.CacheConfig;
+import com.vokabelnetz.dto.response.CacheStatsResponse;
+import com.vokabelnetz.entity.UserPreferences;
+import com.vokabelnetz.entity.Word;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Second-level cache eviction and statistics.
+ *
+ * Writes made through Hibernate keep the read-write regions current on their own.
+ * Writes that bypass it (JDBC bulk upserts, ON DELETE CASCADE) must evict here.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SecondLevelCacheService {
+
+    private static final List<String> REPORTED_REGIONS = List.of(
+        CacheConfig.WORD_REGION,
+        CacheConfig.PREFERENCES_REGION,
+        CacheConfig.QUERY_RESULTS_REGION
+    );
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Evict all cached words and query results (e.g. catalog counts).
+     * Runs after commit so no concurrent reader re-caches the old rows.
+     */
+    public void evictWordCatalog() {
+        afterCommit(() -> {
+            SessionFactory sessionFactory = sessionFactory();
+            sessionFactory.getCache().evictEntityData(Word.class);
+            sessionFactory.getCache().evictDefaultQueryRegion();
+            log.info("Evicted word catalog from second-level cache");
+        });
+    }
+
+    /**
+     * Evict all cached preferences and query results.
+     */
+    public void evictAllPreferences() {
+        afterCommit(() -> {
+            SessionFactory sessionFactory = sessionFactory();
+            sessionFactory.getCache().evictEntityData(UserPreferences.class);
+            sessionFactory.getCache().evictDefaultQueryRegion();
+            log.debug("Evicted user preferences from second-level cache");
+        });
+    }
+
+    /**
+     * Get hit/miss counts per region. Requires hibernate.generate_statistics.
+     */
+    public CacheStatsResponse getStatistics() {
+        Statistics statistics = sessionFactory().getStatistics();
+
+        List<CacheStatsResponse.RegionStats> regions = new ArrayList<>();
+        for (String region : REPORTED_REGIONS) {
+            CacheRegionStatistics regionStats = statistics.getCacheRegionStatistics(region);
+            if (regionStats == null) {
+                continue;
+            }
+            regions.add(CacheStatsResponse.RegionStats.builder()
+                .region(region)
+                .hits(regionStats.getHitCount())
+                .misses(regionStats.getMissCount())
+                .puts(regionStats.getPutCount())
+                .entries(regionStats.getElementCountInMemory())
+                .hitRatio(ratio(regionStats.getHitCount(), regionStats.getMissCount()))
+                .build());
+        }
+
+        return CacheStatsResponse.builder()
+            .statisticsEnabled(statistics.isStatisticsEnabled())
+            .regions(regions)
+            .queryCacheHits(statistics.getQueryCacheHitCount())
+            .queryCacheMisses(statistics.getQueryCacheMissCount())
+            .queryCacheHitRatio(ratio(statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount()))
+            .build();
+    }
+
+    /**
+     * Reset statistics, e.g. before measuring a workload.
+     */
+    public void resetStatistics() {
+        sessionFactory().getStatistics().clear();
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    private static double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
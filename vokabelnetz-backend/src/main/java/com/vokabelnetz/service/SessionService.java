@@ -5,6 +5,7 @@ import com.vokabelnetz.entity.RefreshToken;
 import com.vokabelnetz.exception.ResourceNotFoundException;
 import com.vokabelnetz.repository.RefreshTokenRepository;
 import com.vokabelnetz.security.JwtService;
+import com.vokabelnetz.security.SessionRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -24,6 +25,7 @@ public class SessionService {
 
     private final RefreshTokenRepository refreshTokenRepository;
     private final JwtService jwtService;
+    private final SessionRegistry sessionRegistry;
 
     /**
      * Get all active sessions for a user.
@@ -70,6 +72,7 @@ public class SessionService {
         token.setRevokedAt(Instant.now());
         token.setRevokedReason("USER_REVOKED");
         refreshTokenRepository.save(token);
+        sessionRegistry.sessionRevoked(userId, sessionId);
 
         log.info("Session {} revoked by user {}", sessionId, userId);
     }
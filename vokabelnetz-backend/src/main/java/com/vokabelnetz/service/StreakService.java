@@ -127,6 +127,19 @@ public class StreakService {
         return StreakResult.broken(lostStreak);
     }
 
+    /**
+     * Roll over all users of one timezone whose day just ended:
+     * missed days use a freeze if available, otherwise break the streak.
+     * Two bulk statements, one transaction per timezone.
+     */
+    @Transactional
+    public RolloverResult rolloverTimezone(String timezone, LocalDate yesterday) {
+        String defaultTimezone = appProperties.getStreak().getDefaultTimezone();
+        int frozen = userRepository.useStreakFreezes(timezone, defaultTimezone, yesterday);
+        int broken = userRepository.breakMissedStreaks(timezone, defaultTimezone, yesterday);
+        return new RolloverResult(frozen, broken);
+    }
+
     /**
      * Get current streak status for display.
      */
@@ -212,6 +225,8 @@ public class StreakService {
         }
     }
 
+    public record RolloverResult(int frozen, int broken) {}
+
     public enum StreakResultType {
         MAINTAINED, BROKEN, FROZEN, MILESTONE
     }
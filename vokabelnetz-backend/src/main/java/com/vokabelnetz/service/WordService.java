@@ -3,6 +3,7 @@ package com.vokabelnetz.service;
 import com.vokabelnetz.entity.Word;
 import com.vokabelnetz.entity.enums.CefrLevel;
 import com.vokabelnetz.entity.enums.WordCategory;
+import com.vokabelnetz.entity.enums.WordChangeType;
 import com.vokabelnetz.exception.ResourceNotFoundException;
 import com.vokabelnetz.repository.WordRepository;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +28,7 @@ import java.util.Random;
 public class WordService {
 
     private final WordRepository wordRepository;
+    private final CatalogVersionService catalogVersionService;
     private final Random random = new Random();
 
     /**
@@ -122,10 +124,31 @@ public class WordService {
 
     /**
      * Save word (admin function).
+     * Bumps the catalog version so offline clients pick up the change.
      */
     @Transactional
     public Word save(Word word) {
-        return wordRepository.save(word);
+        Word saved = wordRepository.save(word);
+        catalogVersionService.recordChange(
+            saved.getId(),
+            Boolean.TRUE.equals(saved.getIsActive()) ? WordChangeType.UPSERT : WordChangeType.DEACTIVATE
+        );
+        return saved;
+    }
+
+    /**
+     * Deactivate word (admin function).
+     * Word is kept for existing progress but removed from the active catalog.
+     */
+    @Transactional
+    public Word deactivate(Long id) {
+        Word word = findById(id);
+        if (!Boolean.TRUE.equals(word.getIsActive())) {
+            return word;
+        }
+
+        word.setIsActive(false);
+        return save(word);
     }
 
     /**
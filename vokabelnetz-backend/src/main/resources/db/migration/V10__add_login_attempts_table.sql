@@ -0,0 +1,19 @@
+-- V10: Cluster-wide login attempt tracking (app.security.login-attempt-store=postgres)
+-- UNLOGGED: not WAL-logged, so writes are cheap; the table is emptied after a
+-- crash, which only resets throttling counters
+
+CREATE UNLOGGED TABLE login_attempts (
+    email VARCHAR(255) NOT NULL,
+    ip_address VARCHAR(50) NOT NULL,
+
+    -- Failures within the current lockout window
+    attempts INTEGER NOT NULL,
+
+    last_failure TIMESTAMPTZ NOT NULL,
+    locked_until TIMESTAMPTZ,
+
+    PRIMARY KEY (email, ip_address)
+);
+
+-- Expiry sweep
+CREATE INDEX idx_login_attempts_last_failure ON login_attempts(last_failure);
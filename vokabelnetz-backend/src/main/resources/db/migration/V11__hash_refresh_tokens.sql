@@ -0,0 +1,21 @@
+-- =============================================
+-- REFRESH TOKENS: store SHA-256 digests instead of raw tokens
+-- =============================================
+-- Clients keep presenting the raw token; the server hashes it before lookup,
+-- so tokens issued before this migration stay valid.
+
+ALTER TABLE refresh_tokens ADD COLUMN token_hash BYTEA;
+
+UPDATE refresh_tokens SET token_hash = sha256(convert_to(token, 'UTF8'));
+
+ALTER TABLE refresh_tokens ALTER COLUMN token_hash SET NOT NULL;
+ALTER TABLE refresh_tokens ADD CONSTRAINT chk_rt_token_hash_length CHECK (octet_length(token_hash) = 32);
+
+-- 32-byte keys instead of the VARCHAR(500) unique index
+CREATE UNIQUE INDEX idx_rt_token_hash ON refresh_tokens(token_hash);
+
+DROP INDEX idx_rt_token;
+ALTER TABLE refresh_tokens DROP COLUMN token;
+
+-- Loading a user's active sessions (session registry, session list)
+CREATE INDEX idx_rt_user_active ON refresh_tokens(user_id, created_at DESC) WHERE is_revoked = FALSE;
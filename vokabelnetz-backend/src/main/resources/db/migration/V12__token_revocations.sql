@@ -0,0 +1,16 @@
+-- =============================================
+-- TOKEN REVOCATIONS: access-token generation bumps, polled by every instance
+-- =============================================
+-- Each row says "tokens of user_id with gen < min_generation are revoked".
+-- Rows are only needed while such tokens can still be unexpired, so they are
+-- deleted once older than the access token lifetime.
+
+CREATE TABLE token_revocations (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    min_generation INTEGER NOT NULL,
+    revoked_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+-- Polling for recent revocations and expiry cleanup
+CREATE INDEX idx_token_revocations_revoked_at ON token_revocations(revoked_at);
@@ -0,0 +1,4 @@
+-- V13: Set-based streak rollover
+-- The hourly job selects active users by timezone bucket
+CREATE INDEX idx_users_active_timezone ON users(timezone)
+    WHERE is_active = TRUE AND deleted_at IS NULL;
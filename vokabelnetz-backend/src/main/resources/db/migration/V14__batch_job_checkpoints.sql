@@ -0,0 +1,17 @@
+-- V14: Progress of chunked user-wide scheduled jobs
+-- One row per job; a crashed run with the same run_key resumes after last_user_id
+
+CREATE TABLE batch_job_checkpoints (
+    job_name VARCHAR(100) PRIMARY KEY,
+    run_key VARCHAR(100) NOT NULL,          -- e.g. the run date; a new key starts over
+    status VARCHAR(20) NOT NULL,            -- RUNNING, COMPLETED
+
+    -- Every user with id <= last_user_id has been processed
+    last_user_id BIGINT NOT NULL DEFAULT 0,
+    processed_users INTEGER NOT NULL DEFAULT 0,
+    failed_users INTEGER NOT NULL DEFAULT 0,
+
+    started_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    completed_at TIMESTAMPTZ
+);
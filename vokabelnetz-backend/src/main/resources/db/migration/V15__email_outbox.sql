@@ -0,0 +1,29 @@
+-- =============================================
+-- EMAIL OUTBOX: durable queue between producers and the SMTP worker
+-- =============================================
+-- Producers insert rows in the same transaction as the change that triggers
+-- the email. Workers on any instance claim due rows with FOR UPDATE SKIP LOCKED;
+-- a claim pushes next_attempt_at forward, so rows of a crashed worker are picked
+-- up again once that lease has passed.
+
+CREATE TABLE email_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    recipient VARCHAR(255) NOT NULL,
+    subject VARCHAR(500) NOT NULL,
+    body TEXT NOT NULL,
+    category VARCHAR(50) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    last_error VARCHAR(1000),
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    sent_at TIMESTAMPTZ,
+
+    CONSTRAINT chk_email_outbox_status CHECK (status IN ('PENDING', 'SENT', 'FAILED'))
+);
+
+-- Claiming due rows
+CREATE INDEX idx_email_outbox_due ON email_outbox(next_attempt_at) WHERE status = 'PENDING';
+
+-- Retention cleanup of finished rows
+CREATE INDEX idx_email_outbox_finished ON email_outbox(created_at) WHERE status <> 'PENDING';
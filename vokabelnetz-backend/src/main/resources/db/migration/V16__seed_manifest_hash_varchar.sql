@@ -0,0 +1,4 @@
+-- V16: seed_manifest.content_hash as VARCHAR
+-- V8 declared CHAR(64), which schema validation rejects for the String mapping
+
+ALTER TABLE seed_manifest ALTER COLUMN content_hash TYPE VARCHAR(64);
@@ -0,0 +1,6 @@
+-- V17: Streak reminder dedup
+-- Local date of the last streak reminder; set in the transaction that queues it,
+-- so replicas firing the same reminder slot send it only once per day.
+-- Not mapped on the User entity: saving a loaded user must not overwrite it.
+
+ALTER TABLE users ADD COLUMN last_streak_reminder_on DATE;
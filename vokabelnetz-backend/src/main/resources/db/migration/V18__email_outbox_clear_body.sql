@@ -0,0 +1,7 @@
+-- V18: Finished outbox emails keep no body
+-- Bodies can contain password reset and email verification links, so they are
+-- cleared once an email is sent or has permanently failed.
+
+ALTER TABLE email_outbox ALTER COLUMN body DROP NOT NULL;
+
+UPDATE email_outbox SET body = NULL WHERE status <> 'PENDING';
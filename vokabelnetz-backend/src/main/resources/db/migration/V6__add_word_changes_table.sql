@@ -0,0 +1,24 @@
+-- V6: Word catalog change log for delta sync
+-- Clients cache the catalog offline and only fetch changes since their last version
+
+-- Monotonically increasing catalog version
+CREATE SEQUENCE catalog_version_seq START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE word_changes (
+    id BIGSERIAL PRIMARY KEY,
+
+    -- Catalog version that introduced this change
+    catalog_version BIGINT NOT NULL,
+
+    -- No FK: a hard-deleted word must still show up as a deactivation
+    word_id BIGINT NOT NULL,
+
+    -- UPSERT or DEACTIVATE
+    change_type VARCHAR(20) NOT NULL,
+
+    created_at TIMESTAMP DEFAULT NOW()
+);
+
+-- Indexes for delta queries
+CREATE INDEX idx_wc_catalog_version ON word_changes(catalog_version);
+CREATE INDEX idx_wc_word_id ON word_changes(word_id);
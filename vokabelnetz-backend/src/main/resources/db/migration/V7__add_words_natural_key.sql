@@ -0,0 +1,42 @@
+-- V7: Natural key for words (german + cefr_level)
+-- The index lets the bulk importer use INSERT ... ON CONFLICT (german, cefr_level) DO UPDATE.
+-- Older seeding did not enforce the pair, so duplicates are merged into the lowest id first.
+
+CREATE TEMP TABLE word_duplicates ON COMMIT DROP AS
+SELECT id AS duplicate_id, keep_id
+FROM (
+    SELECT id, MIN(id) OVER (PARTITION BY german, cefr_level) AS keep_id
+    FROM words
+) w
+WHERE id <> keep_id;
+
+-- A user may have progress on several copies: keep the most recently reviewed row
+DELETE FROM user_word_progress p
+USING (
+    SELECT p.id,
+           ROW_NUMBER() OVER (
+               PARTITION BY p.user_id, COALESCE(d.keep_id, p.word_id)
+               ORDER BY p.last_reviewed_at DESC NULLS LAST, p.id
+           ) AS rn
+    FROM user_word_progress p
+    LEFT JOIN word_duplicates d ON d.duplicate_id = p.word_id
+    WHERE p.word_id IN (SELECT duplicate_id FROM word_duplicates)
+       OR p.word_id IN (SELECT keep_id FROM word_duplicates)
+) ranked
+WHERE p.id = ranked.id AND ranked.rn > 1;
+
+UPDATE user_word_progress p
+SET word_id = d.keep_id
+FROM word_duplicates d
+WHERE p.word_id = d.duplicate_id;
+
+-- Offline clients drop the removed copies on their next delta sync
+INSERT INTO word_changes (catalog_version, word_id, change_type)
+SELECT nextval('catalog_version_seq'), duplicate_id, 'DEACTIVATE'
+FROM word_duplicates;
+
+DELETE FROM words w
+USING word_duplicates d
+WHERE w.id = d.duplicate_id;
+
+CREATE UNIQUE INDEX uk_words_german_cefr_level ON words(german, cefr_level);
@@ -0,0 +1,14 @@
+-- V8: Seed manifest for incremental data seeding
+-- Startup skips seed files whose content hash matches the last applied one
+
+CREATE TABLE seed_manifest (
+    -- Seed file name (e.g. words-a1.json)
+    filename VARCHAR(255) PRIMARY KEY,
+
+    -- SHA-256 of the raw file content (hex)
+    content_hash CHAR(64) NOT NULL,
+
+    word_count INTEGER NOT NULL DEFAULT 0,
+
+    seeded_at TIMESTAMP DEFAULT NOW()
+);
@@ -0,0 +1,5 @@
+-- V9: Access token generation counter
+-- Access tokens carry the generation they were issued under; bumping it
+-- (logout-all, password change, deactivation) invalidates them before expiry
+
+ALTER TABLE users ADD COLUMN token_generation INTEGER NOT NULL DEFAULT 0;
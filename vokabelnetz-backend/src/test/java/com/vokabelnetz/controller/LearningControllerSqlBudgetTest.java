@@ -0,0 +1,66 @@
+package com.vokabelnetz.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * SQL statement budgets for {@link LearningController}.
+ */
+class LearningControllerSqlBudgetTest extends SqlBudgetTest {
+
+    @Test
+    void startSession() throws Exception {
+        assertWriteBudget(7, post("/learning/session/start")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"sessionType\": \"MIXED\", \"cefrLevel\": \"A1\"}"));
+    }
+
+    @Test
+    void currentSession() throws Exception {
+        perform(post("/learning/session/start"));
+        assertBudget(5, get("/learning/session/current"));
+    }
+
+    @Test
+    void endSession() throws Exception {
+        long sessionId = readId(perform(post("/learning/session/start")), "$.data.sessionId");
+        assertWriteBudget(7, post("/learning/session/end")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"sessionId\": " + sessionId + "}"));
+    }
+
+    @Test
+    void nextWord() throws Exception {
+        assertBudget(4, get("/learning/next").param("level", "A1"));
+    }
+
+    @Test
+    void answer() throws Exception {
+        assertWriteBudget(9, post("/learning/answer")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"wordId\": " + answeredWordIds.getFirst() + ", \"correct\": false, \"responseTimeMs\": 2500}"));
+    }
+
+    @Test
+    void reviewWords() throws Exception {
+        assertBudget(4, get("/learning/review").param("limit", "20"));
+    }
+
+    @Test
+    void reviewCount() throws Exception {
+        assertBudget(3, get("/learning/review/count"));
+    }
+
+    @Test
+    void newWords() throws Exception {
+        assertBudget(3, get("/learning/new").param("level", "A1").param("limit", "20"));
+    }
+
+    @Test
+    void quizWords() throws Exception {
+        assertBudget(4, get("/learning/quiz").param("level", "A1").param("count", "10"));
+    }
+}
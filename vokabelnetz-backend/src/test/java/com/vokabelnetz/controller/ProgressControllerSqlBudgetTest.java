@@ -0,0 +1,93 @@
+package com.vokabelnetz.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * SQL statement budgets for {@link ProgressController}.
+ */
+class ProgressControllerSqlBudgetTest extends SqlBudgetTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void overall() throws Exception {
+        assertBudget(5, get("/progress/overall"));
+    }
+
+    @Test
+    void daily() throws Exception {
+        assertBudget(3, get("/progress/daily"));
+    }
+
+    @Test
+    void weekly() throws Exception {
+        assertBudget(1, get("/progress/weekly"));
+    }
+
+    @Test
+    void monthly() throws Exception {
+        assertBudget(1, get("/progress/monthly"));
+    }
+
+    @Test
+    void streak() throws Exception {
+        assertBudget(3, get("/progress/streak"));
+    }
+
+    @Test
+    void achievements() throws Exception {
+        assertBudget(3, get("/progress/achievements"));
+    }
+
+    @Test
+    void wordProgress() throws Exception {
+        assertBudget(3, get("/progress/words/{wordId}", answeredWordIds.getFirst()));
+    }
+
+    @Test
+    void levelProgress() throws Exception {
+        assertBudget(3, get("/progress/level/{cefr}", "A1"));
+    }
+
+    @Test
+    void accuracyChart() throws Exception {
+        assertBudget(3, get("/progress/charts/accuracy").param("days", "30"));
+    }
+
+    @Test
+    void activityChart() throws Exception {
+        assertBudget(3, get("/progress/charts/activity").param("year", String.valueOf(LocalDate.now().getYear())));
+    }
+
+    @Test
+    void streakFreeze() throws Exception {
+        jdbcTemplate.update("UPDATE users SET streak_freezes_available = 1 WHERE id = ?", userId);
+        assertWriteBudget(7, post("/progress/streak/freeze"));
+    }
+
+    @Test
+    void today() throws Exception {
+        assertBudget(3, get("/progress/today"));
+    }
+
+    @Test
+    void range() throws Exception {
+        LocalDate today = LocalDate.now();
+        assertBudget(3, get("/progress/range")
+            .param("start", today.minusDays(30).toString())
+            .param("end", today.toString()));
+    }
+
+    @Test
+    void total() throws Exception {
+        assertBudget(4, get("/progress/total"));
+    }
+}
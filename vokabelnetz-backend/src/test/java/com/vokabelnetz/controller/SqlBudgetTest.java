@@ -0,0 +1,112 @@
+package com.vokabelnetz.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.vokabelnetz.PostgresIntegrationTest;
+import com.vokabelnetz.dto.request.RegisterRequest;
+import com.vokabelnetz.dto.response.AuthResponse;
+import com.vokabelnetz.entity.Word;
+import com.vokabelnetz.monitoring.SqlStatementTracker;
+import com.vokabelnetz.repository.WordRepository;
+import com.vokabelnetz.service.AuthService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SQL statement budgets per endpoint (see {@link SqlStatementTracker}).
+ *
+ * One learner is registered per test class and has answered a few A1 words, so
+ * review and progress endpoints have rows to read. Budgets are upper bounds for a
+ * warm request: a regression to N+1 fails the test with the most repeated statement.
+ */
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+abstract class SqlBudgetTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    protected String accessToken;
+    protected Long userId;
+    protected List<Long> answeredWordIds;
+
+    @BeforeAll
+    void registerLearner() throws Exception {
+        RegisterRequest request = RegisterRequest.builder()
+            .email("budget-" + UUID.randomUUID() + "@example.com")
+            .password("correct-horse-battery")
+            .displayName("Budget Learner")
+            .build();
+        AuthResponse response = authService.register(request, new MockHttpServletRequest());
+        accessToken = response.getAccessToken();
+        userId = response.getUser().getId();
+
+        answeredWordIds = wordRepository.findAll().stream().limit(3).map(Word::getId).toList();
+        for (Long wordId : answeredWordIds) {
+            perform(post("/learning/answer")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"wordId\": " + wordId + ", \"correct\": true, \"responseTimeMs\": 1500}"));
+        }
+    }
+
+    /**
+     * Run a read request twice and fail if the second (warm) run executed more than
+     * {@code budget} statements. The first run fills the second-level and query caches.
+     */
+    protected void assertBudget(int budget, MockHttpServletRequestBuilder request) throws Exception {
+        RequestBuilder authenticated = authenticated(request);
+        execute(authenticated);
+        assertBudget(budget, authenticated);
+    }
+
+    /**
+     * Run a request once and fail if it executed more than {@code budget} statements.
+     */
+    protected void assertWriteBudget(int budget, MockHttpServletRequestBuilder request) throws Exception {
+        assertBudget(budget, authenticated(request));
+    }
+
+    protected String perform(MockHttpServletRequestBuilder request) throws Exception {
+        return execute(authenticated(request));
+    }
+
+    private void assertBudget(int budget, RequestBuilder request) throws Exception {
+        try (SqlStatementTracker.Scope scope = SqlStatementTracker.start()) {
+            execute(request);
+            scope.stats().assertStatementCount(budget);
+        }
+    }
+
+    private String execute(RequestBuilder request) throws Exception {
+        return mockMvc.perform(request)
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+    }
+
+    private RequestBuilder authenticated(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken);
+    }
+
+    protected static long readId(String json, String path) {
+        return ((Number) JsonPath.read(json, path)).longValue();
+    }
+}
@@ -0,0 +1,50 @@
+package com.vokabelnetz.repository;
+
+import com.vokabelnetz.PostgresIntegrationTest;
+import com.vokabelnetz.entity.Word;
+import com.vokabelnetz.entity.enums.CefrLevel;
+import com.vokabelnetz.repository.WordBulkRepository.UpsertResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Import counts of the bulk word upsert against PostgreSQL.
+ */
+class WordBulkRepositoryTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private WordBulkRepository wordBulkRepository;
+
+    @Test
+    void duplicateRowsAreCountedSeparately() {
+        List<Word> file = List.of(
+            word("Bulkhaus", "{\"en\": \"house\"}"),
+            word("Bulkhaus", "{\"en\": \"home\"}"),
+            word("Bulkbaum", "{\"en\": \"tree\"}")
+        );
+
+        UpsertResult first = wordBulkRepository.upsertAll(file);
+        assertThat(first.inserted()).isEqualTo(2);
+        assertThat(first.updated()).isZero();
+        assertThat(first.unchanged()).isZero();
+        assertThat(first.duplicates()).isEqualTo(1);
+
+        UpsertResult again = wordBulkRepository.upsertAll(file);
+        assertThat(again.inserted()).isZero();
+        assertThat(again.updated()).isZero();
+        assertThat(again.unchanged()).isEqualTo(2);
+        assertThat(again.duplicates()).isEqualTo(1);
+    }
+
+    private static Word word(String german, String translations) {
+        return Word.builder()
+            .german(german)
+            .cefrLevel(CefrLevel.B2)
+            .translations(translations)
+            .build();
+    }
+}
@@ -0,0 +1,167 @@
+package com.vokabelnetz.scheduler;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.vokabelnetz.PostgresIntegrationTest;
+import com.vokabelnetz.entity.OutboxEmail;
+import com.vokabelnetz.repository.EmailOutboxRepository;
+import com.vokabelnetz.service.EmailOutboxService;
+import com.vokabelnetz.service.EmailOutboxService.OutgoingEmail;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Outbox delivery against PostgreSQL and a GreenMail SMTP server.
+ */
+@TestPropertySource(properties = {
+    "app.mail.enabled=true",
+    "app.mail.outbox.max-attempts=3"
+})
+class EmailOutboxWorkerTest extends PostgresIntegrationTest {
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private EmailOutboxWorker worker;
+
+    @Autowired
+    private EmailOutboxService outboxService;
+
+    @Autowired
+    private EmailOutboxRepository outboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void clearOutbox() {
+        jdbcTemplate.update("DELETE FROM email_outbox");
+    }
+
+    @Test
+    void deliversDueEmailsAndClearsBodies() {
+        outboxService.enqueueAll(emails(3));
+
+        worker.deliverDueEmails();
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(3);
+        assertThat(outboxRepository.findAll())
+            .allSatisfy(email -> {
+                assertThat(email.getStatus()).isEqualTo(OutboxEmail.SENT);
+                assertThat(email.getBody()).isNull();
+                assertThat(email.getAttempts()).isEqualTo(1);
+            });
+    }
+
+    @Test
+    void rollbackDropsBufferedEmails() {
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxService.enqueueAll(emails(2));
+            // Buffered until commit, so nothing is visible yet even inside the transaction
+            assertThat(outboxRepository.count()).isZero();
+            status.setRollbackOnly();
+        });
+        assertThat(outboxRepository.count()).isZero();
+
+        transactionTemplate.executeWithoutResult(status -> outboxService.enqueueAll(emails(2)));
+        assertThat(outboxRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void concurrentClaimsSkipLockedRows() throws Exception {
+        outboxService.enqueueAll(emails(10));
+        Instant leaseUntil = Instant.now().plusSeconds(300);
+        CountDownLatch firstClaimed = new CountDownLatch(1);
+        CountDownLatch secondDone = new CountDownLatch(1);
+
+        // The first worker keeps its transaction (and row locks) open until the second has claimed
+        CompletableFuture<List<OutboxEmail>> first = CompletableFuture.supplyAsync(() ->
+            transactionTemplate.execute(status -> {
+                List<OutboxEmail> claimed = outboxRepository.claimDue(5, leaseUntil);
+                firstClaimed.countDown();
+                await(secondDone);
+                return claimed;
+            }));
+        assertThat(firstClaimed.await(10, TimeUnit.SECONDS)).isTrue();
+
+        List<OutboxEmail> second = transactionTemplate.execute(status -> outboxRepository.claimDue(10, leaseUntil));
+        secondDone.countDown();
+
+        Set<Long> firstIds = ids(first.get(10, TimeUnit.SECONDS));
+        Set<Long> secondIds = ids(second);
+        assertThat(firstIds).hasSize(5);
+        assertThat(secondIds).hasSize(5).doesNotContainAnyElementsOf(firstIds);
+    }
+
+    @Test
+    void failedSendIsRetriedWithBackoffThenMarkedFailed() {
+        outboxService.enqueue(emails(1).getFirst());
+        greenMail.stop();
+
+        Instant before = Instant.now();
+        worker.deliverDueEmails();
+
+        OutboxEmail retry = outboxRepository.findAll().getFirst();
+        assertThat(retry.getStatus()).isEqualTo(OutboxEmail.PENDING);
+        assertThat(retry.getAttempts()).isEqualTo(1);
+        assertThat(retry.getLastError()).isNotBlank();
+        // initial-backoff-seconds (30) plus up to 20% jitter
+        assertThat(retry.getNextAttemptAt())
+            .isAfterOrEqualTo(before.plusSeconds(30))
+            .isBefore(Instant.now().plus(Duration.ofSeconds(37)));
+
+        // Make it due again for the remaining attempts (max-attempts = 3)
+        for (int attempt = 2; attempt <= 3; attempt++) {
+            jdbcTemplate.update("UPDATE email_outbox SET next_attempt_at = NOW()");
+            worker.deliverDueEmails();
+        }
+
+        OutboxEmail failed = outboxRepository.findAll().getFirst();
+        assertThat(failed.getStatus()).isEqualTo(OutboxEmail.FAILED);
+        assertThat(failed.getAttempts()).isEqualTo(3);
+        assertThat(failed.getBody()).isNull();
+
+        jdbcTemplate.update("UPDATE email_outbox SET next_attempt_at = NOW()");
+        worker.deliverDueEmails();
+        assertThat(outboxRepository.findAll().getFirst().getAttempts()).isEqualTo(3);
+    }
+
+    private static List<OutgoingEmail> emails(int count) {
+        return IntStream.rangeClosed(1, count)
+            .mapToObj(i -> new OutgoingEmail("learner" + i + "@example.com", "Subject " + i, "<p>Body " + i + "</p>", "WELCOME"))
+            .toList();
+    }
+
+    private static Set<Long> ids(List<OutboxEmail> emails) {
+        return emails.stream().map(OutboxEmail::getId).collect(Collectors.toSet());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.vokabelnetz.scheduler.batch;
+
+import com.vokabelnetz.PostgresIntegrationTest;
+import com.vokabelnetz.dto.request.RegisterRequest;
+import com.vokabelnetz.entity.BatchJobCheckpoint;
+import com.vokabelnetz.repository.BatchJobCheckpointRepository;
+import com.vokabelnetz.scheduler.SchedulerLock;
+import com.vokabelnetz.service.AuthService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Resuming user-wide jobs from their checkpoints, and shards locked by another
+ * instance, against PostgreSQL.
+ */
+@TestPropertySource(properties = "app.batch.lock-retry-seconds=1")
+class UserBatchJobRunnerTest extends PostgresIntegrationTest {
+
+    private static final String RUN_KEY = "2026-W43";
+
+    @Autowired
+    private UserBatchJobRunner runner;
+
+    @Autowired
+    private BatchJobCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private SchedulerLock schedulerLock;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private String jobName;
+
+    @BeforeEach
+    void uniqueJobName() {
+        jobName = "test-job-" + UUID.randomUUID();
+    }
+
+    @Test
+    void interruptedRunResumesAfterCheckpoint() {
+        List<Long> userIds = List.of(registerUser(), registerUser(), registerUser());
+        crashedAfter(userIds.get(1), RUN_KEY);
+        assertThat(runner.isInterrupted(jobName, RUN_KEY)).isTrue();
+
+        List<Long> handled = new ArrayList<>();
+        runner.run(jobName, RUN_KEY, chunk -> {
+            handled.addAll(chunk);
+            return chunk.size();
+        });
+
+        assertThat(handled).contains(userIds.get(2)).doesNotContain(userIds.get(0), userIds.get(1));
+        assertThat(checkpointRepository.findById(jobName).orElseThrow().isCompleted()).isTrue();
+        assertThat(runner.isInterrupted(jobName, RUN_KEY)).isFalse();
+    }
+
+    @Test
+    void runOfEarlierPeriodIsNotResumed() {
+        crashedAfter(registerUser(), "2026-W42");
+
+        assertThat(runner.isInterrupted(jobName, RUN_KEY)).isFalse();
+    }
+
+    @Test
+    void runStillHeldByAnotherInstanceIsNotInterrupted() throws Exception {
+        crashedAfter(registerUser(), RUN_KEY);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> holder = CompletableFuture.supplyAsync(() ->
+            schedulerLock.runExclusively(jobName, () -> {
+                locked.countDown();
+                awaitQuietly(release);
+            }));
+        assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            assertThat(runner.isInterrupted(jobName, RUN_KEY)).isFalse();
+        } finally {
+            release.countDown();
+        }
+        assertThat(holder.get(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(runner.isInterrupted(jobName, RUN_KEY)).isTrue();
+    }
+
+    @Test
+    void shardLeftByDeadHolderIsFinishedInTheSameRun() throws Exception {
+        Long userId = registerUser();
+        crashedAfter(0L, RUN_KEY);
+        CountDownLatch locked = new CountDownLatch(1);
+        // The holder "dies" after a moment: its lock is released with the shard unfinished
+        CompletableFuture<Boolean> holder = CompletableFuture.supplyAsync(() ->
+            schedulerLock.runExclusively(jobName, () -> {
+                locked.countDown();
+                sleepQuietly(1500);
+            }));
+        assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+        List<Long> handled = new ArrayList<>();
+        BatchJobResult result = runner.run(jobName, RUN_KEY, chunk -> {
+            handled.addAll(chunk);
+            return chunk.size();
+        });
+
+        assertThat(holder.get(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(result.skipped()).isFalse();
+        assertThat(handled).contains(userId);
+        assertThat(checkpointRepository.findById(jobName).orElseThrow().isCompleted()).isTrue();
+    }
+
+    @Test
+    void shardCompletedByAnotherInstanceIsNotRunAgain() throws Exception {
+        registerUser();
+        crashedAfter(0L, RUN_KEY);
+        CountDownLatch locked = new CountDownLatch(1);
+        CompletableFuture<Boolean> holder = CompletableFuture.supplyAsync(() ->
+            schedulerLock.runExclusively(jobName, () -> {
+                locked.countDown();
+                sleepQuietly(1500);
+                transactionTemplate.executeWithoutResult(status -> checkpointRepository.markCompleted(jobName, RUN_KEY));
+            }));
+        assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+        List<Long> handled = new ArrayList<>();
+        BatchJobResult result = runner.run(jobName, RUN_KEY, chunk -> {
+            handled.addAll(chunk);
+            return chunk.size();
+        });
+
+        assertThat(holder.get(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(result.skipped()).isTrue();
+        assertThat(handled).isEmpty();
+    }
+
+    private void crashedAfter(Long lastUserId, String runKey) {
+        checkpointRepository.save(BatchJobCheckpoint.builder()
+            .jobName(jobName)
+            .runKey(runKey)
+            .lastUserId(lastUserId)
+            .build());
+    }
+
+    private Long registerUser() {
+        RegisterRequest request = RegisterRequest.builder()
+            .email("batch-" + UUID.randomUUID() + "@example.com")
+            .password("correct-horse-battery")
+            .displayName("Batch User")
+            .build();
+        return authService.register(request, new MockHttpServletRequest()).getUser().getId();
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
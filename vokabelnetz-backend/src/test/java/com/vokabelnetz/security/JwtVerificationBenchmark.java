@@ -0,0 +1,161 @@
+package com.vokabelnetz.security;
+
+import com.vokabelnetz.config.AppProperties;
+import com.vokabelnetz.config.JwtProperties;
+import com.vokabelnetz.entity.enums.Role;
+import com.vokabelnetz.repository.TokenRevocationRepository;
+import com.vokabelnetz.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Per-request cost of {@link JwtAuthenticationFilter#doFilterInternal} for a valid
+ * access token, with a mock request, response and chain.
+ *
+ * {@code verification} selects how the token is verified:
+ * <ul>
+ *   <li>{@code cache}: verified-token cache on (the default), warm</li>
+ *   <li>{@code noCache}: cache off ({@code jwt.verified-token-cache-size=0}); key and parser built once</li>
+ *   <li>{@code perCallParser}: the path before the cache, deriving the key and building
+ *       the parser on every request</li>
+ * </ul>
+ * The user's security state is cached in all three, as in production.
+ *
+ * Run {@link #main} from the test classpath (with {@code --enable-preview}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-with-at-least-32-characters";
+    private static final long USER_ID = 42L;
+
+    @Param({"cache", "noCache", "perCallParser"})
+    public String verification;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private FilterChain chain;
+
+    @Setup
+    public void setUp() throws ServletException, IOException {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        if (!verification.equals("cache")) {
+            jwtProperties.setVerifiedTokenCacheSize(0);
+        }
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtService jwtService = verification.equals("perCallParser")
+            ? new PerCallParserJwtService(jwtProperties, meterRegistry)
+            : new JwtService(jwtProperties, meterRegistry);
+
+        // Repositories are only hit on the first request; later ones are served from memory
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findSecurityStateById(USER_ID))
+            .thenReturn(Optional.of(new UserSecurityState(true, Role.ROLE_USER, 0)));
+        AppProperties appProperties = new AppProperties();
+        AccessTokenDenylist denylist =
+            new AccessTokenDenylist(mock(TokenRevocationRepository.class), jwtProperties, appProperties);
+        UserSecurityStateService securityStateService = new UserSecurityStateService(
+            userRepository, mock(TokenRevocationRepository.class), denylist, appProperties, meterRegistry);
+        filter = new JwtAuthenticationFilter(jwtService, securityStateService, denylist);
+
+        request = new MockHttpServletRequest("GET", "/api/learning/next");
+        request.addHeader("Authorization", "Bearer " + accessToken());
+        response = new MockHttpServletResponse();
+        chain = (req, res) -> { };
+
+        if (authenticate() == null) {
+            throw new IllegalStateException("Benchmark token was not accepted");
+        }
+    }
+
+    @Benchmark
+    public Authentication authenticate() throws ServletException, IOException {
+        filter.doFilterInternal(request, response, chain);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    private static String accessToken() {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        Date now = new Date();
+        return Jwts.builder()
+            .subject(String.valueOf(USER_ID))
+            .claim(JwtService.CLAIM_EMAIL, "learner@example.com")
+            .claim(JwtService.CLAIM_ROLE, Role.ROLE_USER.name())
+            .claim(JwtService.CLAIM_TOKEN_GENERATION, 0)
+            .issuedAt(now)
+            .expiration(new Date(now.getTime() + TimeUnit.HOURS.toMillis(1)))
+            .signWith(key)
+            .compact();
+    }
+
+    /**
+     * Verification as it was before the key, parser and verified tokens were kept.
+     */
+    static class PerCallParserJwtService extends JwtService {
+
+        private final JwtProperties jwtProperties;
+
+        PerCallParserJwtService(JwtProperties jwtProperties, SimpleMeterRegistry meterRegistry) {
+            super(jwtProperties, meterRegistry);
+            this.jwtProperties = jwtProperties;
+        }
+
+        @Override
+        public Optional<Claims> parseValidClaims(String token) {
+            try {
+                SecretKey key = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+                return Optional.of(Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload());
+            } catch (JwtException | IllegalArgumentException e) {
+                return Optional.empty();
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(JwtVerificationBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
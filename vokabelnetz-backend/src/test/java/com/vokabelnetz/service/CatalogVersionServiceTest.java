@@ -0,0 +1,68 @@
+package com.vokabelnetz.service;
+
+import com.vokabelnetz.PostgresIntegrationTest;
+import com.vokabelnetz.dto.response.CatalogChangesResponse;
+import com.vokabelnetz.entity.Word;
+import com.vokabelnetz.entity.enums.WordChangeType;
+import com.vokabelnetz.repository.WordRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Delta sync stays bounded: clients without a version or too far behind get fullResync.
+ */
+@TestPropertySource(properties = "app.catalog.max-delta-words=2")
+class CatalogVersionServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private CatalogVersionService catalogVersionService;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Test
+    void clientWithoutVersionGetsFullResync() {
+        CatalogChangesResponse changes = catalogVersionService.getChangesSince(0);
+
+        assertThat(changes.isFullResync()).isTrue();
+        assertThat(changes.getUpserts()).isEmpty();
+        assertThat(changes.getDeactivations()).isEmpty();
+    }
+
+    @Test
+    void smallDeltaIsReturned() {
+        List<Long> wordIds = wordIds(2);
+        long since = catalogVersionService.recordChange(wordIds.get(0), WordChangeType.UPSERT);
+        long current = catalogVersionService.recordChange(wordIds.get(1), WordChangeType.UPSERT);
+
+        CatalogChangesResponse changes = catalogVersionService.getChangesSince(since - 1);
+
+        assertThat(changes.isFullResync()).isFalse();
+        assertThat(changes.getCurrentVersion()).isEqualTo(current);
+        assertThat(changes.getUpserts()).extracting(Word::getId).containsExactlyInAnyOrderElementsOf(wordIds);
+    }
+
+    @Test
+    void deltaLargerThanLimitGetsFullResync() {
+        long since = catalogVersionService.getCurrentVersion();
+        catalogVersionService.recordChanges(wordIds(3), WordChangeType.UPSERT);
+
+        CatalogChangesResponse changes = catalogVersionService.getChangesSince(since);
+
+        assertThat(changes.isFullResync()).isTrue();
+        assertThat(changes.getUpserts()).isEmpty();
+    }
+
+    private List<Long> wordIds(int count) {
+        return wordRepository.findAll().stream()
+            .filter(word -> Boolean.TRUE.equals(word.getIsActive()))
+            .map(Word::getId)
+            .limit(count)
+            .toList();
+    }
+}
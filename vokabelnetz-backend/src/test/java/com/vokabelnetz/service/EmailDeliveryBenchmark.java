@@ -0,0 +1,128 @@
+package com.vokabelnetz.service;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.vokabelnetz.config.MailProperties;
+import com.vokabelnetz.entity.OutboxEmail;
+import jakarta.mail.internet.MimeMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbox fan-out against a local SMTP stand-in (GreenMail).
+ *
+ * {@code perMessage} opens one connection per email (the old path),
+ * {@code batched} sends through {@link EmailService#deliverAll} in slices of
+ * {@code messages-per-connection}. Loopback has no TLS or network latency, so
+ * the gap against a real provider is larger than measured here.
+ *
+ * Run {@link #main} from the test classpath (with {@code --enable-preview}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class EmailDeliveryBenchmark {
+
+    @Param("200")
+    private int emailCount;
+
+    private GreenMail greenMail;
+    private JavaMailSenderImpl mailSender;
+    private EmailService emailService;
+    private List<OutboxEmail> emails;
+    private int messagesPerConnection;
+
+    @Setup(Level.Trial)
+    public void startServer() {
+        greenMail = new GreenMail(ServerSetupTest.SMTP.dynamicPort());
+        greenMail.start();
+
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+
+        MailProperties mailProperties = new MailProperties();
+        mailProperties.setEnabled(true);
+        messagesPerConnection = mailProperties.getOutbox().getMessagesPerConnection();
+        emailService = new EmailService(mailSender, mailProperties, null, null);
+
+        emails = new ArrayList<>(emailCount);
+        for (long i = 1; i <= emailCount; i++) {
+            emails.add(OutboxEmail.builder()
+                .id(i)
+                .recipient("learner" + i + "@example.com")
+                .subject("Your weekly progress")
+                .body("<p>You learned 12 words and reviewed 48 this week.</p>")
+                .category("WEEKLY_REPORT")
+                .nextAttemptAt(Instant.now())
+                .build());
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void purge() throws Exception {
+        greenMail.purgeEmailFromAllMailboxes();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopServer() {
+        greenMail.stop();
+    }
+
+    @Benchmark
+    public int perMessage() throws Exception {
+        for (OutboxEmail email : emails) {
+            MimeMessage message = mailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+            helper.setFrom("noreply@vokabelnetz.com");
+            helper.setTo(email.getRecipient());
+            helper.setSubject(email.getSubject());
+            helper.setText(email.getBody(), true);
+            mailSender.send(message);
+        }
+        return emails.size();
+    }
+
+    @Benchmark
+    public int batched() {
+        int failed = 0;
+        for (int from = 0; from < emails.size(); from += messagesPerConnection) {
+            List<OutboxEmail> slice = emails.subList(from, Math.min(from + messagesPerConnection, emails.size()));
+            failed += emailService.deliverAll(slice).size();
+        }
+        if (failed > 0) {
+            throw new IllegalStateException(failed + " emails failed");
+        }
+        return emails.size();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(EmailDeliveryBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
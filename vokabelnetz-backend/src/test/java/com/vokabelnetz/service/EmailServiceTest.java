@@ -0,0 +1,73 @@
+package com.vokabelnetz.service;
+
+import com.vokabelnetz.config.MailProperties;
+import com.vokabelnetz.entity.OutboxEmail;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmailServiceTest {
+
+    private JavaMailSender mailSender;
+    private EmailService emailService;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = mock(JavaMailSender.class);
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        MailProperties mailProperties = new MailProperties();
+        mailProperties.setEnabled(true);
+        emailService = new EmailService(mailSender, mailProperties, null, null);
+    }
+
+    @Test
+    void closeFailureAfterSendingDoesNotFailMessages() {
+        doThrow(new MailSendException("Failed to close server connection after message sending", new RuntimeException()))
+            .when(mailSender).send(any(MimeMessage[].class));
+
+        Map<Long, Exception> failures = emailService.deliverAll(List.of(email(1), email(2)));
+
+        assertThat(failures).isEmpty();
+    }
+
+    @Test
+    void onlyRejectedMessagesFail() {
+        doAnswer(invocation -> {
+            Object[] messages = invocation.getArguments();
+            Map<Object, Exception> failed = new LinkedHashMap<>();
+            failed.put(messages[1], new RuntimeException("550 mailbox unavailable"));
+            throw new MailSendException(failed);
+        }).when(mailSender).send(any(MimeMessage[].class));
+
+        Map<Long, Exception> failures = emailService.deliverAll(List.of(email(1), email(2), email(3)));
+
+        assertThat(failures).containsOnlyKeys(2L);
+    }
+
+    private static OutboxEmail email(long id) {
+        return OutboxEmail.builder()
+            .id(id)
+            .recipient("learner" + id + "@example.com")
+            .subject("Subject")
+            .body("<p>Body</p>")
+            .category("WEEKLY_REPORT")
+            .nextAttemptAt(Instant.now())
+            .build();
+    }
+}
@@ -0,0 +1,150 @@
+package com.vokabelnetz.service;
+
+import com.vokabelnetz.PostgresIntegrationTest;
+import com.vokabelnetz.VokabelnetzApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two application contexts ("nodes") sharing one PostgreSQL, as two replicas
+ * behind a load balancer would.
+ *
+ * Node A is the test context; node B is started with the same datasource.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(properties = {
+    PostgresLoginAttemptStoreMultiNodeTest.STORE_PROPERTY,
+    PostgresLoginAttemptStoreMultiNodeTest.NEAR_CACHE_PROPERTY
+})
+class PostgresLoginAttemptStoreMultiNodeTest extends PostgresIntegrationTest {
+
+    static final String STORE_PROPERTY = "app.security.login-attempt-store=postgres";
+    static final String NEAR_CACHE_PROPERTY = "app.security.login-attempt-near-cache-seconds=1";
+
+    private static final int MAX_ATTEMPTS = 5;
+    private static final String IP = "203.0.113.7";
+
+    @Autowired
+    private LoginAttemptService nodeA;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ConfigurableApplicationContext contextB;
+    private LoginAttemptService nodeB;
+
+    @BeforeAll
+    void startSecondNode() {
+        // Arguments rather than default properties, which application.yml would override
+        contextB = new SpringApplicationBuilder(VokabelnetzApplication.class)
+            .profiles("test")
+            .run(
+                "--spring.datasource.url=" + environment.getRequiredProperty("spring.datasource.url"),
+                "--spring.datasource.username=" + environment.getRequiredProperty("spring.datasource.username"),
+                "--spring.datasource.password=" + environment.getRequiredProperty("spring.datasource.password"),
+                "--server.port=0",
+                "--" + STORE_PROPERTY,
+                "--" + NEAR_CACHE_PROPERTY
+            );
+        nodeB = contextB.getBean(LoginAttemptService.class);
+    }
+
+    @AfterAll
+    void stopSecondNode() {
+        if (contextB != null) {
+            contextB.close();
+        }
+    }
+
+    @BeforeEach
+    void clearAttempts() {
+        jdbcTemplate.update("DELETE FROM login_attempts");
+    }
+
+    @Test
+    void failuresSplitAcrossNodesLockOnBoth() throws InterruptedException {
+        String email = "split@example.com";
+
+        nodeA.recordFailedAttempt(email, IP);
+        nodeB.recordFailedAttempt(email, IP);
+        nodeA.recordFailedAttempt(email, IP);
+        nodeB.recordFailedAttempt(email, IP);
+        assertThat(nodeA.isLoginAllowed(email, IP)).isTrue();
+        assertThat(nodeB.isLoginAllowed(email, IP)).isTrue();
+
+        nodeB.recordFailedAttempt(email, IP);
+
+        assertThat(nodeB.isLoginAllowed(email, IP)).isFalse();
+        // Node A cached "not locked" above; the lock shows up once that entry expires
+        assertThat(lockedWithin(nodeA, email, 3000)).isTrue();
+    }
+
+    @Test
+    void successOnOneNodeResetsCountForAll() {
+        String email = "reset@example.com";
+
+        for (int i = 0; i < MAX_ATTEMPTS - 1; i++) {
+            nodeA.recordFailedAttempt(email, IP);
+        }
+        nodeB.recordSuccessfulLogin(email, IP);
+        for (int i = 0; i < MAX_ATTEMPTS - 1; i++) {
+            nodeA.recordFailedAttempt(email, IP);
+        }
+
+        assertThat(nodeA.isLoginAllowed(email, IP)).isTrue();
+        assertThat(attempts(email)).isEqualTo(MAX_ATTEMPTS - 1);
+    }
+
+    @Test
+    void concurrentFailuresOnBothNodesAreAllCounted() throws InterruptedException {
+        String email = "concurrent@example.com";
+        List<LoginAttemptService> nodes = List.of(nodeA, nodeB);
+
+        CompletableFuture.allOf(IntStream.range(0, 20)
+                .mapToObj(i -> CompletableFuture.runAsync(
+                    () -> nodes.get(i % 2).recordFailedAttempt(email, IP)))
+                .toArray(CompletableFuture[]::new))
+            .join();
+
+        assertThat(attempts(email)).isEqualTo(20);
+        // An early "not locked" result may be cached last on a node; it expires within the TTL
+        assertThat(lockedWithin(nodeA, email, 3000)).isTrue();
+        assertThat(lockedWithin(nodeB, email, 3000)).isTrue();
+    }
+
+    private boolean lockedWithin(LoginAttemptService node, String email, long timeoutMillis)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (System.currentTimeMillis() < deadline) {
+            if (!node.isLoginAllowed(email, IP)) {
+                return true;
+            }
+            Thread.sleep(100);
+        }
+        return false;
+    }
+
+    private int attempts(String email) {
+        return jdbcTemplate.queryForObject(
+            "SELECT attempts FROM login_attempts WHERE email = ? AND ip_address = ?",
+            Integer.class, email, IP);
+    }
+}
@@ -0,0 +1,151 @@
+package com.vokabelnetz.service;
+
+import com.vokabelnetz.PostgresIntegrationTest;
+import com.vokabelnetz.config.CacheConfig;
+import com.vokabelnetz.dto.request.AnswerRequest;
+import com.vokabelnetz.dto.request.RegisterRequest;
+import com.vokabelnetz.dto.response.CacheStatsResponse;
+import com.vokabelnetz.dto.response.NextWordResult;
+import com.vokabelnetz.entity.User;
+import com.vokabelnetz.entity.Word;
+import com.vokabelnetz.entity.enums.CefrLevel;
+import com.vokabelnetz.repository.UserPreferencesRepository;
+import com.vokabelnetz.repository.UserRepository;
+import com.vokabelnetz.repository.WordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Hit ratios of the second-level and query caches under a learning workload.
+ *
+ * Each round is what a learner's client does per card: fetch the next word and
+ * answer it through LearningService, which also writes the word's counters and
+ * Elo rating; then read the learner's preferences and the catalog count. The
+ * word writes replace Word entries and invalidate every cached query over words,
+ * as in production. The report is logged per region; the same numbers are served
+ * by GET /admin/cache/stats.
+ */
+@Slf4j
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class SecondLevelCacheHitRatioTest extends PostgresIntegrationTest {
+
+    private static final int USERS = 20;
+    private static final int CATALOG_WORDS = 500;
+    private static final int ROUNDS = 2_000;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private SecondLevelCacheService cacheService;
+
+    @Autowired
+    private LearningService learningService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Autowired
+    private UserPreferencesRepository preferencesRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void hitRatiosUnderLearningWorkload() {
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            RegisterRequest request = RegisterRequest.builder()
+                .email("cache-" + i + "@example.com")
+                .password("correct-horse-battery")
+                .displayName("Learner " + i)
+                .build();
+            userIds.add(authService.register(request, new MockHttpServletRequest()).getUser().getId());
+        }
+        // The seed catalog is tiny; learners need enough new words for every round
+        List<Word> catalog = new ArrayList<>();
+        for (int i = 0; i < CATALOG_WORDS; i++) {
+            catalog.add(Word.builder()
+                .german("Cachewort" + i)
+                .cefrLevel(CefrLevel.A1)
+                .translations("{\"en\": \"cache word " + i + "\"}")
+                .difficultyRating(900 + i)
+                .build());
+        }
+        wordRepository.saveAll(catalog);
+
+        cacheService.resetStatistics();
+        Random random = new Random(42);
+        int answered = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            Long userId = userIds.get(random.nextInt(userIds.size()));
+            // Detached, like the principal the JWT filter hands to the controller
+            User user = userRepository.findById(userId).orElseThrow();
+
+            NextWordResult next = learningService.getNextWord(user, CefrLevel.A1);
+            if (next.getWord() != null) {
+                AnswerRequest answer = AnswerRequest.builder()
+                    .wordId(next.getWord().getId())
+                    .correct(random.nextInt(4) > 0)
+                    .responseTimeMs(1500)
+                    .build();
+                learningService.processAnswer(user, next.getWord().getId(), answer);
+                answered++;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                preferencesRepository.findByUserId(userId).orElseThrow();
+                wordRepository.countByCefrLevelAndIsActiveTrue(CefrLevel.A1);
+            });
+        }
+
+        CacheStatsResponse stats = cacheService.getStatistics();
+        log.info("{}", report(stats));
+
+        double wordRatio = hitRatio(stats, CacheConfig.WORD_REGION);
+        double preferencesRatio = hitRatio(stats, CacheConfig.PREFERENCES_REGION);
+        assertThat(answered).isEqualTo(ROUNDS);
+        assertThat(stats.isStatisticsEnabled()).isTrue();
+        // Preferences are only read, so they are served from the cache
+        assertThat(preferencesRatio).as("preferences hit ratio").isGreaterThan(0.9);
+        // An answered word was just loaded by the next-word query, and its update
+        // replaces the cached entry instead of evicting it
+        assertThat(wordRatio).as("word hit ratio").isGreaterThan(0.9);
+        // Half the cached queries are preference lookups, which hit; the other half are
+        // word counts, which miss because every answer invalidates the words query space
+        assertThat(stats.getQueryCacheHitRatio()).as("query cache hit ratio").isCloseTo(0.5, within(0.05));
+    }
+
+    private static double hitRatio(CacheStatsResponse stats, String region) {
+        return stats.getRegions().stream()
+            .filter(r -> r.getRegion().equals(region))
+            .findFirst()
+            .orElseThrow()
+            .getHitRatio();
+    }
+
+    private static String report(CacheStatsResponse stats) {
+        StringBuilder sb = new StringBuilder("Second-level cache, " + ROUNDS + " answered cards:\n");
+        for (CacheStatsResponse.RegionStats region : stats.getRegions()) {
+            sb.append(String.format("  %-45s hits=%6d misses=%5d ratio=%.3f%n",
+                region.getRegion(), region.getHits(), region.getMisses(), region.getHitRatio()));
+        }
+        sb.append(String.format("  %-45s hits=%6d misses=%5d ratio=%.3f",
+            "query cache", stats.getQueryCacheHits(), stats.getQueryCacheMisses(), stats.getQueryCacheHitRatio()));
+        return sb.toString();
+    }
+}